@@ -0,0 +1,97 @@
+package com.br.courses.benchmark;
+
+import com.br.courses.dto.CourseResponse;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.model.Course;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de mapear e serializar as respostas de curso de uma listagem
+ * Os benchmarks *Single medem um único curso: o gc.alloc.rate.norm deles já é o custo
+ * em bytes por elemento; nos de lista, divida pelo listSize para comparar
+ * Rode com: mvn -Pjmh test-compile exec:exec -Djmh.args="CoursePayloadBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CoursePayloadBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int listSize;
+
+    @Param({"50", "2000"})
+    private int descriptionLength;
+
+    private final CourseMapper courseMapper = new CourseMapper();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private List<Course> courses;
+    private List<CourseResponse> responses;
+    private Course course;
+    private CourseResponse response;
+
+    @Setup
+    public void setUp() {
+        String description = "Descrição do curso ".repeat(descriptionLength / 19 + 1).substring(0, descriptionLength);
+        courses = new ArrayList<>(listSize);
+        for (int i = 1; i <= listSize; i++) {
+            Course item = new Course();
+            item.setId((long) i);
+            item.setTitle("Curso de Spring Boot " + i);
+            item.setDescription(description);
+            item.setCategory("Backend");
+            item.setDuration(1 + i % 200);
+            item.setVersion((long) i % 5);
+            courses.add(item);
+        }
+        responses = courseMapper.toResponseList(courses);
+        course = courses.get(0);
+        response = responses.get(0);
+    }
+
+    @Benchmark
+    public CourseResponse toResponseSingle() {
+        return courseMapper.toResponse(course);
+    }
+
+    @Benchmark
+    public List<CourseResponse> toResponseList() {
+        return courseMapper.toResponseList(courses);
+    }
+
+    @Benchmark
+    public byte[] serializeSingle() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return jsonMapper.writeValueAsBytes(responses);
+    }
+
+    /**
+     * Caminho completo de uma listagem: entidades -> DTOs -> JSON
+     */
+    @Benchmark
+    public byte[] mapAndSerializeList() {
+        return jsonMapper.writeValueAsBytes(courseMapper.toResponseList(courses));
+    }
+}
@@ -0,0 +1,52 @@
+package com.br.courses.benchmark;
+
+import com.br.courses.security.JwtTokenProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * JwtTokenProvider configurado como no application.properties, sem subir o contexto Spring
+ */
+final class JwtFixtures {
+
+    static final String USERNAME = "benchmark";
+    static final String SECRET = "mySuperSecureSecretKeyThatIsAtLeast256BitsLongForHS512AlgorithmUsingJJWT123456789";
+
+    private JwtFixtures() {
+    }
+
+    static JwtTokenProvider tokenProvider() {
+        return tokenProvider(10_000);
+    }
+
+    /**
+     * @param verifiedCacheMaxSize 0 desativa o cache de tokens verificados
+     */
+    static JwtTokenProvider tokenProvider(long verifiedCacheMaxSize) {
+        return new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L, verifiedCacheMaxSize, Duration.ofMinutes(5));
+    }
+
+    /**
+     * Access token no formato anterior às claims de papéis e enabled
+     */
+    static String legacyAccessToken() {
+        return Jwts.builder()
+                .setSubject(USERNAME)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    static Authentication authentication() {
+        return new UsernamePasswordAuthenticationToken(USERNAME, null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.br.courses.benchmark;
+
+import com.br.courses.security.JwtTokenFilter;
+import com.br.courses.security.JwtTokenProvider;
+import com.br.courses.security.TokenUserResolver;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho completo do JwtTokenFilter para uma requisição autenticada:
+ * extração do header, verificação do token, leitura das claims e montagem da Authentication
+ * legacyTokenRequest usa um token sem claims de papéis, que ainda passa pelo UserDetailsService;
+ * o stub em memória não mede a consulta ao banco que esse caminho faz em produção
+ * Rode com: mvn -Pjmh test-compile exec:exec -Djmh.args="JwtTokenFilterBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class JwtTokenFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtTokenFilter filter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest legacyTokenRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = JwtFixtures.tokenProvider();
+        UserDetails user = User.withUsername(JwtFixtures.USERNAME)
+                .password("{noop}benchmark")
+                .roles("USER")
+                .build();
+        filter = new JwtTokenFilter(tokenProvider, new TokenUserResolver(username -> user, true));
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/courses");
+        authenticatedRequest.addHeader("Authorization",
+                "Bearer " + tokenProvider.generateAccessToken(JwtFixtures.authentication()));
+        legacyTokenRequest = new MockHttpServletRequest("GET", "/api/courses");
+        legacyTokenRequest.addHeader("Authorization", "Bearer " + JwtFixtures.legacyAccessToken());
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/courses");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws Exception {
+        return filter(authenticatedRequest);
+    }
+
+    @Benchmark
+    public Authentication legacyTokenRequest() throws Exception {
+        return filter(legacyTokenRequest);
+    }
+
+    /**
+     * Referência: custo do filtro quando não há token
+     */
+    @Benchmark
+    public Authentication anonymousRequest() throws Exception {
+        return filter(anonymousRequest);
+    }
+
+    private Authentication filter(MockHttpServletRequest request) throws Exception {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
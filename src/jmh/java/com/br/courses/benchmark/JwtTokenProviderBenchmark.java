@@ -0,0 +1,81 @@
+package com.br.courses.benchmark;
+
+import com.br.courses.security.JwtTokenProvider;
+import com.br.courses.security.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de cada operação do JwtTokenProvider executada no caminho de autenticação
+ * Rode com: mvn -Pjmh test-compile exec:exec -Djmh.args="JwtTokenProviderBenchmark -prof gc"
+ * O profiler gc reporta gc.alloc.rate.norm (bytes alocados por operação)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private JwtTokenProvider uncachedTokenProvider;
+    private Authentication authentication;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = JwtFixtures.tokenProvider();
+        uncachedTokenProvider = JwtFixtures.tokenProvider(0);
+        authentication = JwtFixtures.authentication();
+        accessToken = tokenProvider.generateAccessToken(authentication);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return tokenProvider.generateAccessToken(authentication);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return tokenProvider.generateRefreshToken(JwtFixtures.USERNAME);
+    }
+
+    /**
+     * Portador recorrente: resposta do cache de tokens verificados, sem HMAC
+     */
+    @Benchmark
+    public Optional<VerifiedToken> verifyCached() {
+        return tokenProvider.verify(accessToken);
+    }
+
+    /**
+     * Primeira vez que o token é visto: um parse e uma verificação HS512
+     */
+    @Benchmark
+    public Optional<VerifiedToken> verifyUncached() {
+        return uncachedTokenProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return tokenProvider.getUsernameFromToken(accessToken);
+    }
+}
@@ -0,0 +1,75 @@
+package com.br.courses.benchmark;
+
+import com.br.courses.dto.UserResponse;
+import com.br.courses.mapper.UserMapper;
+import com.br.courses.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de mapear e serializar a listagem de usuários (GET /api/auth/users)
+ * Para bytes por elemento, divida o gc.alloc.rate.norm pelo listSize
+ * Rode com: mvn -Pjmh test-compile exec:exec -Djmh.args="UserPayloadBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class UserPayloadBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int listSize;
+
+    private final UserMapper userMapper = new UserMapper();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private List<User> users;
+    private List<UserResponse> responses;
+
+    @Setup
+    public void setUp() {
+        users = new ArrayList<>(listSize);
+        for (int i = 1; i <= listSize; i++) {
+            User user = new User();
+            user.setId((long) i);
+            user.setUsername("usuario" + i);
+            user.setEmail("usuario" + i + "@example.com");
+            user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3fVmW9Z7GFY1KXKz1b3yE1e");
+            user.setEnabled(true);
+            user.setRole("ROLE_USER");
+            users.add(user);
+        }
+        responses = userMapper.toResponseList(users);
+    }
+
+    @Benchmark
+    public List<UserResponse> toResponseList() {
+        return userMapper.toResponseList(users);
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return jsonMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeList() {
+        return jsonMapper.writeValueAsBytes(userMapper.toResponseList(users));
+    }
+}
@@ -3,6 +3,7 @@ package com.br.courses.config;
 import com.br.courses.security.JwtAuthenticationEntryPoint;
 import com.br.courses.security.JwtTokenFilter;
 import com.br.courses.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -42,6 +43,8 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(authz -> authz
+                        // Dispatch assíncrono (respostas em streaming) já foi autorizado na requisição original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Permitir acesso público ao Swagger/OpenAPI
                         .requestMatchers(
                                 "/swagger-ui/**",
@@ -51,8 +54,8 @@ public class SecurityConfig {
                                 "/api-docs/**",
                                 "/swagger-resources/**"
                         ).permitAll()
-                        // Permitir acesso público ao login e registro de usuários
-                        .requestMatchers("/api/auth/login", "/api/auth/register", "/api/auth/refresh-token").permitAll()
+                        // Permitir acesso público ao login e registro de usuários; renovação e logout exigem o refresh token no corpo
+                        .requestMatchers("/api/auth/login", "/api/auth/register", "/api/auth/refresh-token", "/api/auth/logout").permitAll()
                         // Requirer autenticação para todas as outras requisições de API
                         .requestMatchers("/api/**").authenticated()
                         .anyRequest().permitAll()
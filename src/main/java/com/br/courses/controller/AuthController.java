@@ -1,5 +1,6 @@
 package com.br.courses.controller;
 
+import com.br.courses.dto.CacheStatsResponse;
 import com.br.courses.dto.LoginRequest;
 import com.br.courses.dto.LoginResponse;
 import com.br.courses.dto.RefreshTokenRequest;
@@ -7,6 +8,9 @@ import com.br.courses.dto.UserResponse;
 import com.br.courses.mapper.UserMapper;
 import com.br.courses.model.User;
 import com.br.courses.security.JwtTokenProvider;
+import com.br.courses.security.TokenRevocationStore;
+import com.br.courses.security.VerifiedToken;
+import com.br.courses.service.CustomUserDetailsService;
 import com.br.courses.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,9 +26,12 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -36,6 +43,8 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserMapper userMapper;
+    private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @PostMapping("/login")
     @Operation(summary = "Fazer login", description = "Autentica um usuário e retorna tokens JWT")
@@ -71,7 +80,7 @@ public class AuthController {
     }
 
     @PostMapping("/refresh-token")
-    @Operation(summary = "Renovar token de acesso", description = "Gera um novo access token usando o refresh token")
+    @Operation(summary = "Renovar token de acesso", description = "Gera um novo access token e um novo refresh token; o refresh token usado deixa de valer")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Token renovado com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = LoginResponse.class))),
@@ -79,24 +88,71 @@ public class AuthController {
                     content = @Content(mediaType = "application/json"))
     })
     public ResponseEntity<?> refreshToken(@RequestBody @Valid RefreshTokenRequest request) {
-        if (!jwtTokenProvider.validateToken(request.refreshToken())) {
+        // Só refresh tokens com jti e família são aceitos: access tokens e tokens antigos exigem novo login
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(request.refreshToken())
+                .filter(VerifiedToken::isRotatable);
+        if (verified.isEmpty() || tokenRevocationStore.isFamilyRevoked(verified.get().family())) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body("{\"error\": \"Refresh token inválido ou expirado\"}");
         }
 
-        String username = jwtTokenProvider.getUsernameFromToken(request.refreshToken());
+        // O novo access token leva papéis e situação atuais do usuário, lidos do banco
+        VerifiedToken token = verified.get();
+        String username = token.subject();
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("{\"error\": \"Refresh token inválido ou expirado\"}");
+        }
+        if (!user.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("{\"error\": \"Usuário desativado\"}");
+        }
+
+        // Rotação: o token apresentado é consumido; se já tinha sido, houve reuso e a família inteira é revogada
+        jwtTokenProvider.evict(request.refreshToken());
+        if (tokenRevocationStore.isTokenRevoked(token.id())
+                || !tokenRevocationStore.revokeToken(token.id(), token.expiresAt())) {
+            tokenRevocationStore.revokeFamily(token.family());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("{\"error\": \"Refresh token já utilizado\"}");
+        }
+
         String newAccessToken = jwtTokenProvider.generateAccessToken(
-                new UsernamePasswordAuthenticationToken(username, null)
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())
         );
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(username, token.family());
 
         return ResponseEntity.ok(LoginResponse.of(
                 newAccessToken,
-                request.refreshToken(),
+                newRefreshToken,
                 3600L,
                 username
         ));
     }
 
+    @PostMapping("/logout")
+    @Operation(summary = "Encerrar sessão", description = "Revoga o refresh token informado e todos os tokens renovados a partir do mesmo login")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Sessão encerrada"),
+            @ApiResponse(responseCode = "401", description = "Refresh token inválido",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<?> logout(@RequestBody @Valid RefreshTokenRequest request) {
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(request.refreshToken())
+                .filter(VerifiedToken::isRotatable);
+        if (verified.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("{\"error\": \"Refresh token inválido ou expirado\"}");
+        }
+
+        jwtTokenProvider.evict(request.refreshToken());
+        tokenRevocationStore.revokeFamily(verified.get().family());
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/register")
     @Operation(summary = "Registrar novo usuário", description = "Cria uma nova conta de usuário no sistema")
     @ApiResponses(value = {
@@ -123,6 +179,14 @@ public class AuthController {
         return ResponseEntity.ok(userMapper.toResponseList(users));
     }
 
+    @GetMapping("/users/cache/stats")
+    @Operation(summary = "Estatísticas do cache de usuários", description = "Retorna hits, misses, tempo médio de carga e evicções do cache usado na autenticação (requer autenticação)")
+    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CacheStatsResponse.class)))
+    public ResponseEntity<CacheStatsResponse> getUserCacheStats() {
+        return ResponseEntity.ok(userDetailsService.stats());
+    }
+
     @GetMapping("/users/{id}")
     @Operation(summary = "Obter usuário por ID", description = "Retorna os detalhes de um usuário específico (requer autenticação)")
     @ApiResponses(value = {
@@ -159,8 +223,7 @@ public class AuthController {
             @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
     })
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
-        if (userService.getUserById(id).isPresent()) {
-            userService.deleteUser(id);
+        if (userService.deleteUser(id)) {
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -1,10 +1,31 @@
 package com.br.courses.controller;
 
+import com.br.courses.dto.BulkOperationResponse;
+import com.br.courses.dto.CacheStatsResponse;
+import com.br.courses.dto.CourseBatchItemResult;
+import com.br.courses.dto.CourseBulkDeleteRequest;
+import com.br.courses.dto.CourseBulkUpdateRequest;
+import com.br.courses.dto.CourseChangeMessage;
+import com.br.courses.dto.CourseChangesResponse;
+import com.br.courses.dto.CourseFacetsResponse;
+import com.br.courses.dto.CourseFilter;
+import com.br.courses.dto.CoursePageResponse;
 import com.br.courses.dto.CourseRequest;
 import com.br.courses.dto.CourseResponse;
+import com.br.courses.dto.CourseSuggestionResponse;
+import com.br.courses.dto.CourseSummaryResponse;
 import com.br.courses.mapper.CourseMapper;
+import com.br.courses.mapper.CursorCodec;
 import com.br.courses.model.Course;
+import com.br.courses.exception.BadRequestException;
+import com.br.courses.service.CatalogVersion;
+import com.br.courses.service.CourseBatchService;
+import com.br.courses.service.CourseCache;
+import com.br.courses.service.CourseFacetAggregate;
 import com.br.courses.service.CourseService;
+import com.br.courses.service.CourseSyncService;
+import com.br.courses.service.CourseTitleSuggester;
+import com.br.courses.web.CourseChangeFeed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,11 +35,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Function;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,27 +61,212 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService service;
+    private final CourseBatchService batchService;
+    private final CourseSyncService syncService;
+    private final CourseFacetAggregate facetAggregate;
+    private final CourseTitleSuggester titleSuggester;
+    private final CourseCache courseCache;
+    private final CatalogVersion catalogVersion;
+    private final CourseChangeFeed changeFeed;
     private final CourseMapper courseMapper;
+    private final CursorCodec cursorCodec;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final int MAX_BATCH_SIZE = 10_000;
+    private static final int MAX_CHANGES_PAGE_SIZE = 1000;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
 
     @GetMapping
-    @Operation(summary = "Listar todos os cursos", description = "Retorna uma lista de todos os cursos cadastrados no sistema")
-    @ApiResponse(responseCode = "200", description = "Lista de cursos retornada com sucesso",
-            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseResponse.class)))
-    public @ResponseBody List<CourseResponse> listarTodos() {
-        return courseMapper.toResponseList(service.findAll());
+    @Operation(summary = "Listar todos os cursos", description = "Retorna uma lista resumida (sem descrição) de todos os cursos cadastrados no sistema. Use includeDescription=true para os dados completos. Suporta If-None-Match com o ETag do catálogo")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de cursos retornada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseSummaryResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Catálogo não mudou desde o ETag informado")
+    })
+    @Parameter(name = "includeDescription", description = "Inclui a descrição completa de cada curso", example = "false")
+    public @ResponseBody List<?> listarTodos(@RequestParam(defaultValue = "false") boolean includeDescription,
+                                             WebRequest webRequest) {
+        // O ETag do catálogo é respondido sem consultar a tabela
+        if (webRequest.checkNotModified(catalogVersion.etag())) {
+            return null;
+        }
+        if (includeDescription) {
+            return courseMapper.toResponseList(service.findAll());
+        }
+        return service.findAllSummaries();
+    }
+
+    @GetMapping(params = "limit")
+    @Operation(summary = "Listar cursos paginados", description = "Retorna uma página resumida de cursos ordenada por ID usando paginação por cursor (keyset)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de cursos retornada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CoursePageResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Catálogo não mudou desde o ETag informado"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @Parameter(name = "after", description = "Cursor opaco retornado em nextCursor pela página anterior")
+    @Parameter(name = "limit", description = "Quantidade de cursos por página (máximo 100)", required = true, example = "20")
+    @Parameter(name = "includeDescription", description = "Inclui a descrição completa de cada curso", example = "false")
+    public @ResponseBody CoursePageResponse<?> listarPaginado(@RequestParam(required = false) String after,
+                                                              @RequestParam int limit,
+                                                              @RequestParam(defaultValue = "false") boolean includeDescription,
+                                                              WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.etag())) {
+            return null;
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Long afterId = after == null ? null : cursorCodec.decode(after);
+
+        // Busca um item a mais para saber se existe próxima página
+        if (includeDescription) {
+            List<CourseResponse> rows = courseMapper.toResponseList(service.findPage(afterId, pageSize + 1));
+            return toPage(rows, pageSize, CourseResponse::id);
+        }
+        return toPage(service.findSummaryPage(afterId, pageSize + 1), pageSize, CourseSummaryResponse::id);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Buscar cursos por texto", description = "Busca ranqueada (BM25) no título e na descrição, sem diferenciar acentos e tolerando erros de digitação")
+    @ApiResponse(responseCode = "200", description = "Cursos encontrados, do mais relevante ao menos relevante",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseSummaryResponse.class)))
+    @Parameter(name = "q", description = "Texto da busca", required = true, example = "programação java")
+    @Parameter(name = "limit", description = "Quantidade máxima de resultados (máximo 50)", example = "10")
+    @Parameter(name = "includeDescription", description = "Inclui a descrição completa de cada curso", example = "false")
+    public @ResponseBody List<?> buscar(@RequestParam String q,
+                                        @RequestParam(defaultValue = "10") int limit,
+                                        @RequestParam(defaultValue = "false") boolean includeDescription) {
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        if (includeDescription) {
+            return courseMapper.toResponseList(service.search(q, maxResults));
+        }
+        return service.searchSummaries(q, maxResults);
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Sugerir títulos", description = "Autocomplete: títulos que começam com o prefixo, sem diferenciar acentos e maiúsculas, servidos de um índice em memória")
+    @ApiResponse(responseCode = "200", description = "Sugestões em ordem alfabética",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseSuggestionResponse.class)))
+    @Parameter(name = "prefix", description = "Início do título digitado", required = true, example = "progra")
+    @Parameter(name = "limit", description = "Quantidade máxima de sugestões (máximo 20)", example = "10")
+    public @ResponseBody List<CourseSuggestionResponse> sugerir(@RequestParam String prefix,
+                                                                @RequestParam(defaultValue = "10") int limit) {
+        return titleSuggester.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    @GetMapping("/filter")
+    @Operation(summary = "Filtrar cursos", description = "Filtra por qualquer combinação de categoria, faixa de duração e trecho do título (sem diferenciar maiúsculas). Ordenável por id, title, category ou duration, ex.: sort=duration,desc")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de cursos que atendem ao filtro",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseSummaryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Faixa de duração, ordenação ou tamanho de página inválidos",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<List<CourseSummaryResponse>> filtrar(@RequestParam(required = false) String category,
+                                                               @RequestParam(required = false) Integer minDuration,
+                                                               @RequestParam(required = false) Integer maxDuration,
+                                                               @RequestParam(required = false) String title,
+                                                               @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        if (pageable.getPageSize() > MAX_PAGE_SIZE) {
+            throw new BadRequestException("O tamanho da página deve ser no máximo " + MAX_PAGE_SIZE);
+        }
+        CourseFilter filter = new CourseFilter(category, null, minDuration, maxDuration, title);
+        return ResponseEntity.ok(service.filter(filter, pageable));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Facetas por categoria", description = "Retorna a quantidade de cursos e o total de horas por categoria, servidos de um agregado em memória")
+    @ApiResponse(responseCode = "200", description = "Facetas retornadas com sucesso",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseFacetsResponse.class)))
+    public @ResponseBody CourseFacetsResponse facetas() {
+        return facetAggregate.snapshot();
+    }
+
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Estatísticas do cache de cursos", description = "Retorna hits, misses, tempo médio de carga e evicções do cache de cursos por ID")
+    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CacheStatsResponse.class)))
+    public @ResponseBody CacheStatsResponse estatisticasCache() {
+        return courseCache.stats();
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @Operation(summary = "Exportar catálogo", description = "Exporta todos os cursos em NDJSON (um curso por linha), em streaming e com memória constante")
+    @ApiResponse(responseCode = "200", description = "Catálogo exportado com sucesso",
+            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = CourseResponse.class)))
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+            service.exportAll(course -> writeLine(out, courseMapper.toResponse(course)));
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    private void writeLine(OutputStream out, CourseResponse response) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(response));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Sincronização incremental", description = "Retorna os cursos criados ou alterados e os ids removidos desde o token informado, junto com o próximo token. Sem since, percorre o catálogo desde o início. Enquanto hasMore for true, chame novamente com nextToken")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Mudanças desde o token",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseChangesResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Token ou limite inválido",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @Parameter(name = "since", description = "Token retornado pela chamada anterior (nextToken)")
+    @Parameter(name = "limit", description = "Quantidade máxima de mudanças (1 a 1000)", example = "500")
+    public ResponseEntity<CourseChangesResponse> listarMudancas(@RequestParam(required = false) String since,
+                                                                @RequestParam(defaultValue = "500") int limit) {
+        if (limit < 1 || limit > MAX_CHANGES_PAGE_SIZE) {
+            throw new BadRequestException("O limite deve estar entre 1 e " + MAX_CHANGES_PAGE_SIZE);
+        }
+        return ResponseEntity.ok(syncService.changesSince(since, limit));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Feed de mudanças de cursos (SSE)", description = "Envia um evento CREATED, UPDATED ou DELETED a cada mutação de curso. Ao reconectar, envie o último id recebido em Last-Event-ID para receber somente o que foi perdido; um evento reset indica que o catálogo deve ser recarregado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream de eventos aberto",
+                    content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = CourseChangeMessage.class)))
+    })
+    public SseEmitter acompanharMudancas(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.subscribe(lastEventId);
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar curso por ID", description = "Retorna um curso específico pelo seu ID")
+    @Operation(summary = "Buscar curso por ID", description = "Retorna um curso específico pelo seu ID. Suporta If-None-Match com o ETag do curso")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Curso encontrado e retornado com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Curso não mudou desde o ETag informado"),
             @ApiResponse(responseCode = "404", description = "Curso não encontrado com o ID fornecido",
                     content = @Content(mediaType = "application/json"))
     })
     @Parameter(name = "id", description = "ID único do curso", required = true, example = "1")
-    public @ResponseBody ResponseEntity<CourseResponse> listar(@PathVariable Long id) {
-        return ResponseEntity.ok(courseMapper.toResponse(service.find(id)));
+    public @ResponseBody ResponseEntity<CourseResponse> listar(@PathVariable Long id, WebRequest webRequest) {
+        // GET condicional compara o ETag antes de carregar a entidade: usa o cache ou lê apenas a coluna de versão
+        // Sem If-None-Match, o miss faz uma única consulta e o curso carregado já traz a versão
+        CourseResponse cached = courseCache.getIfPresent(id);
+        if (cached == null && webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(courseETag(id, service.findVersion(id)))) {
+            return null;
+        }
+
+        CourseResponse course = cached != null ? cached : courseCache.get(id);
+        if (webRequest.checkNotModified(courseETag(course.id(), course.version()))) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(courseETag(course.id(), course.version())).body(course);
     }
 
     @PostMapping
@@ -64,6 +283,45 @@ public class CourseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(courseMapper.toResponse(savedCourse));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Criar cursos em lote", description = "Valida cada curso individualmente e persiste os válidos em blocos com inserts em batch. Retorna um resultado por item, na mesma ordem")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; veja o status de cada item",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseBatchItemResult.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou maior que o limite",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<List<CourseBatchItemResult>> salvarLote(@RequestBody List<CourseRequest> courseRequests) {
+        if (courseRequests.isEmpty() || courseRequests.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("O lote deve ter entre 1 e " + MAX_BATCH_SIZE + " cursos");
+        }
+        return ResponseEntity.ok(batchService.createAll(courseRequests));
+    }
+
+    @PostMapping("/bulk/update")
+    @Operation(summary = "Atualizar cursos em massa", description = "Aplica category e/ou duration a todos os cursos que atendem ao filtro (categoria, ids, faixa de duração) com um único UPDATE")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Quantidade de cursos atualizados",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkOperationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Filtro vazio ou nenhum campo para atualizar",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<BulkOperationResponse> atualizarEmMassa(@RequestBody @Valid CourseBulkUpdateRequest request) {
+        return ResponseEntity.ok(new BulkOperationResponse(service.bulkUpdate(request)));
+    }
+
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "Deletar cursos em massa", description = "Remove todos os cursos que atendem ao filtro (categoria, ids, faixa de duração) com um único DELETE")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Quantidade de cursos removidos",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkOperationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Filtro vazio",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<BulkOperationResponse> deletarEmMassa(@RequestBody @Valid CourseBulkDeleteRequest request) {
+        return ResponseEntity.ok(new BulkOperationResponse(service.bulkDelete(request)));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar curso", description = "Atualiza um curso existente com novos dados")
     @ApiResponses(value = {
@@ -72,13 +330,13 @@ public class CourseController {
             @ApiResponse(responseCode = "404", description = "Curso não encontrado com o ID fornecido",
                     content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "409", description = "Curso alterado por outra requisição durante a atualização",
                     content = @Content(mediaType = "application/json"))
     })
     @Parameter(name = "id", description = "ID único do curso a atualizar", required = true, example = "1")
     public @ResponseBody ResponseEntity<CourseResponse> editar(@PathVariable Long id, @RequestBody @Valid CourseRequest courseRequest) {
-        Course course = service.find(id);
-
-        Course savedCourse = service.update(course.getId(), courseRequest);
+        Course savedCourse = service.update(id, courseRequest);
         return ResponseEntity.ok(courseMapper.toResponse(savedCourse));
     }
 
@@ -95,4 +353,20 @@ public class CourseController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * ETag forte de um curso, derivado do id e da coluna de versão
+     */
+    private static String courseETag(Long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Monta a página a partir de pageSize + 1 linhas: a linha extra indica que existe próxima página
+     */
+    private <T> CoursePageResponse<T> toPage(List<T> rows, int pageSize, Function<T, Long> idOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorCodec.encode(idOf.apply(page.get(page.size() - 1))) : null;
+        return new CoursePageResponse<>(page, nextCursor);
+    }
 }
@@ -0,0 +1,58 @@
+package com.br.courses.controller;
+
+import com.br.courses.dto.CourseImportJobResponse;
+import com.br.courses.service.CourseImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/courses/imports")
+@Tag(name = "Course Imports", description = "Importação assíncrona de cursos via CSV")
+public class CourseImportController {
+
+    private final CourseImportService importService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importar cursos via CSV", description = "Recebe um CSV com cabeçalho title,description,category,duration e inicia a importação em segundo plano. Acompanhe o andamento pelo jobId retornado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Importação enfileirada",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseImportJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo vazio",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "503", description = "Fila de importações cheia",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<CourseImportJobResponse> importar(@RequestParam("file") MultipartFile file) {
+        CourseImportJobResponse job = importService.start(file);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/courses/imports/" + job.jobId()))
+                .body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Acompanhar importação", description = "Retorna o andamento da importação e os erros das linhas rejeitadas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Andamento da importação",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseImportJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @Parameter(name = "jobId", description = "ID da importação", required = true)
+    public ResponseEntity<CourseImportJobResponse> acompanhar(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(importService.find(jobId));
+    }
+}
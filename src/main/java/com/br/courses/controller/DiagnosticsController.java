@@ -0,0 +1,32 @@
+package com.br.courses.controller;
+
+import com.br.courses.diagnostics.VirtualThreadPinningMonitor;
+import com.br.courses.dto.PinningReportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/diagnostics")
+@ConditionalOnProperty(name = "app.diagnostics.pinning.enabled", havingValue = "true")
+@Tag(name = "Diagnostics", description = "Diagnóstico do modo de execução com virtual threads")
+public class DiagnosticsController {
+
+    private final VirtualThreadPinningMonitor pinningMonitor;
+
+    @GetMapping("/pinning")
+    @Operation(summary = "Relatório de pinning", description = "Pilhas de chamadas em que virtual threads ficaram presas à carrier thread acima do limite configurado, da que mais tempo prendeu para a que menos prendeu")
+    @ApiResponse(responseCode = "200", description = "Relatório retornado com sucesso",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PinningReportResponse.class)))
+    public PinningReportResponse pinning() {
+        return pinningMonitor.report();
+    }
+}
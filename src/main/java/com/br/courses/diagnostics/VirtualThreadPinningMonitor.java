@@ -0,0 +1,150 @@
+package com.br.courses.diagnostics;
+
+import com.br.courses.dto.PinningReportResponse;
+import com.br.courses.dto.PinningSiteResponse;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Detecta virtual threads presas (pinned) à carrier thread via o evento JFR jdk.VirtualThreadPinned
+ * No Java 21 isso acontece quando a thread bloqueia (JDBC, sleep, lock) dentro de um bloco
+ * synchronized ou de código nativo, ocupando uma carrier thread durante toda a espera
+ * Os eventos são agrupados pela pilha de chamadas; a primeira ocorrência de cada pilha é logada
+ */
+@Component
+@ConditionalOnProperty(name = "app.diagnostics.pinning.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.br.courses.";
+
+    private final Duration threshold;
+    private final int stackDepth;
+    private final ConcurrentMap<String, Site> sites = new ConcurrentHashMap<>();
+    private final LongAdder events = new LongAdder();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${app.diagnostics.pinning.threshold:20ms}") Duration threshold,
+                                       @Value("${app.diagnostics.pinning.stack-depth:12}") int stackDepth) {
+        this.threshold = threshold;
+        this.stackDepth = stackDepth;
+    }
+
+    /**
+     * Pilha de chamadas distinta e suas estatísticas acumuladas
+     */
+    private static final class Site {
+        private final String site;
+        private final List<String> stackTrace;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private Site(String site, List<String> stackTrace) {
+            this.site = site;
+            this.stackTrace = stackTrace;
+        }
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private PinningSiteResponse toResponse() {
+            return new PinningSiteResponse(site, count.sum(),
+                    totalNanos.sum() / 1_000_000.0, maxNanos.get() / 1_000_000.0, stackTrace);
+        }
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        log.info("Monitor de pinning de virtual threads ativo (limite de {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * Relatório com as pilhas que mais tempo mantiveram carrier threads presas
+     */
+    public PinningReportResponse report() {
+        List<PinningSiteResponse> sorted = sites.values().stream()
+                .map(Site::toResponse)
+                .sorted(Comparator.comparingDouble(PinningSiteResponse::totalMillis).reversed())
+                .toList();
+        return new PinningReportResponse(threshold.toMillis(), events.sum(), sorted);
+    }
+
+    void record(RecordedEvent event) {
+        List<String> allFrames = frames(event.getStackTrace());
+        List<String> frames = allFrames.subList(0, Math.min(stackDepth, allFrames.size()));
+        String description = describe(allFrames);
+        long nanos = event.getDuration().toNanos();
+        events.increment();
+
+        Site site = sites.computeIfAbsent(description + "\n" + String.join("\n", frames), key -> {
+            log.warn("Virtual thread presa à carrier thread por {} ms em {}\n\t{}",
+                    nanos / 1_000_000, description, String.join("\n\t", frames));
+            return new Site(description, List.copyOf(frames));
+        });
+        site.record(nanos);
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+                .map(VirtualThreadPinningMonitor::format)
+                .toList();
+    }
+
+    /**
+     * Primeiro frame da aplicação na pilha, ou o frame do topo quando a pilha só tem código de bibliotecas
+     */
+    private static String describe(List<String> frames) {
+        return frames.stream()
+                .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "desconhecido" : frames.get(0));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
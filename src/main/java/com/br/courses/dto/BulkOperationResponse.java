@@ -0,0 +1,9 @@
+package com.br.courses.dto;
+
+/**
+ * Record para resposta de operações em massa com a quantidade de cursos afetados
+ */
+public record BulkOperationResponse(
+    int affected
+) {
+}
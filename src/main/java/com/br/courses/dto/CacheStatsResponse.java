@@ -0,0 +1,33 @@
+package com.br.courses.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Record para estatísticas de um cache em memória
+ */
+public record CacheStatsResponse(
+    long size,
+    long hitCount,
+    long missCount,
+    double hitRate,
+    long loadSuccessCount,
+    long loadFailureCount,
+    double averageLoadPenaltyMs,
+    long evictionCount
+) {
+    /**
+     * Factory method para criar CacheStatsResponse a partir das estatísticas do Caffeine
+     */
+    public static CacheStatsResponse of(long size, CacheStats stats) {
+        return new CacheStatsResponse(
+                size,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.loadSuccessCount(),
+                stats.loadFailureCount(),
+                stats.averageLoadPenalty() / 1_000_000.0,
+                stats.evictionCount()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.br.courses.dto;
+
+/**
+ * Record para contagem de cursos e horas de uma categoria
+ */
+public record CategoryFacetResponse(
+    String category,
+    long courses,
+    long totalHours
+) {
+}
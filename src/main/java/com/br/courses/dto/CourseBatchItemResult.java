@@ -0,0 +1,38 @@
+package com.br.courses.dto;
+
+import com.br.courses.exception.ValidationError;
+
+import java.util.List;
+
+/**
+ * Record com o resultado de um item da criação em lote de cursos
+ *
+ * @param index  posição do item na lista enviada
+ * @param status resultado do item
+ * @param course curso criado (somente quando status = CREATED)
+ * @param errors erros de validação ou de persistência do item
+ */
+public record CourseBatchItemResult(
+    int index,
+    Status status,
+    CourseResponse course,
+    List<ValidationError> errors
+) {
+    public enum Status {
+        CREATED,
+        INVALID,
+        FAILED
+    }
+
+    public static CourseBatchItemResult created(int index, CourseResponse course) {
+        return new CourseBatchItemResult(index, Status.CREATED, course, List.of());
+    }
+
+    public static CourseBatchItemResult invalid(int index, List<ValidationError> errors) {
+        return new CourseBatchItemResult(index, Status.INVALID, null, errors);
+    }
+
+    public static CourseBatchItemResult failed(int index, String message) {
+        return new CourseBatchItemResult(index, Status.FAILED, null, List.of(new ValidationError(null, null, message)));
+    }
+}
@@ -0,0 +1,14 @@
+package com.br.courses.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Record para remoção em massa de cursos
+ */
+public record CourseBulkDeleteRequest(
+    @NotNull(message = "Filtro é obrigatório")
+    @Valid
+    CourseFilter filter
+) {
+}
@@ -0,0 +1,26 @@
+package com.br.courses.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Record para atualização em massa de cursos
+ * Os campos category e duration informados são aplicados a todos os cursos do filtro
+ * category é opcional, mas quando informada não pode ser vazia (a coluna é obrigatória)
+ */
+public record CourseBulkUpdateRequest(
+    @NotNull(message = "Filtro é obrigatório")
+    @Valid
+    CourseFilter filter,
+
+    @Pattern(regexp = ".*\\S.*", message = "A categoria não pode ficar em branco")
+    @Size(max = 50, message = "A categoria deve ter no máximo 50 caracteres")
+    String category,
+
+    @Positive(message = "Duração deve ser maior que zero")
+    Integer duration
+) {
+}
@@ -0,0 +1,25 @@
+package com.br.courses.dto;
+
+/**
+ * Record com uma mutação de curso enviada pelo feed de mudanças (SSE)
+ *
+ * @param sequence posição da mudança no feed, crescente
+ * @param type     tipo da mutação
+ * @param courseId id do curso afetado; null em RESET
+ * @param course   estado atual do curso; null em remoções e em atualizações em massa,
+ *                 quando o cliente deve reconsultar o curso
+ */
+public record CourseChangeMessage(
+    long sequence,
+    Type type,
+    Long courseId,
+    CourseResponse course
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /** Operação em massa grande demais para um evento por curso: o cliente deve recarregar o catálogo */
+        RESET
+    }
+}
@@ -0,0 +1,19 @@
+package com.br.courses.dto;
+
+import java.util.List;
+
+/**
+ * Record com as mudanças do catálogo desde um token de sincronização
+ *
+ * @param changed   cursos criados ou alterados (o cliente deve substituir a cópia local)
+ * @param deleted   ids dos cursos removidos (o cliente deve descartar a cópia local)
+ * @param nextToken token para a próxima chamada
+ * @param hasMore   indica que ainda existem mudanças além desta página
+ */
+public record CourseChangesResponse(
+    List<CourseResponse> changed,
+    List<Long> deleted,
+    String nextToken,
+    boolean hasMore
+) {
+}
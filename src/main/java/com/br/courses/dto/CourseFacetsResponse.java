@@ -0,0 +1,13 @@
+package com.br.courses.dto;
+
+import java.util.List;
+
+/**
+ * Record para resposta de facetas do catálogo (totais gerais e por categoria)
+ */
+public record CourseFacetsResponse(
+    long totalCourses,
+    long totalHours,
+    List<CategoryFacetResponse> categories
+) {
+}
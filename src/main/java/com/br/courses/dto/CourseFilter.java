@@ -0,0 +1,37 @@
+package com.br.courses.dto;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Record com os critérios de seleção de cursos (filtro e operações em massa)
+ * Critérios nulos são ignorados; os informados são combinados com AND
+ */
+public record CourseFilter(
+    String category,
+
+    @Size(max = 1000, message = "No máximo 1000 ids por operação")
+    List<Long> ids,
+
+    @PositiveOrZero(message = "Duração mínima não pode ser negativa")
+    Integer minDuration,
+
+    @PositiveOrZero(message = "Duração máxima não pode ser negativa")
+    Integer maxDuration,
+
+    @Size(max = 200, message = "O trecho do título deve ter no máximo 200 caracteres")
+    String title
+) {
+    /**
+     * Indica se nenhum critério foi informado (o que selecionaria todos os cursos)
+     */
+    public boolean isEmpty() {
+        return category == null
+                && (ids == null || ids.isEmpty())
+                && minDuration == null
+                && maxDuration == null
+                && (title == null || title.isBlank());
+    }
+}
@@ -0,0 +1,40 @@
+package com.br.courses.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Record com o andamento de uma importação de cursos via CSV
+ *
+ * @param jobId           identificador da importação
+ * @param fileName        nome do arquivo enviado
+ * @param status          situação atual da importação
+ * @param rowsRead        linhas de dados lidas até agora
+ * @param created         cursos criados até agora
+ * @param rejected        linhas rejeitadas (inválidas ou com falha ao persistir)
+ * @param errors          erros por linha, limitados aos primeiros registrados
+ * @param errorsTruncated indica que existem mais linhas rejeitadas do que erros registrados
+ * @param failureMessage  motivo da falha quando status = FAILED
+ */
+public record CourseImportJobResponse(
+    UUID jobId,
+    String fileName,
+    Status status,
+    long rowsRead,
+    long created,
+    long rejected,
+    Instant submittedAt,
+    Instant startedAt,
+    Instant finishedAt,
+    List<CourseImportRowError> errors,
+    boolean errorsTruncated,
+    String failureMessage
+) {
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,17 @@
+package com.br.courses.dto;
+
+import com.br.courses.exception.ValidationError;
+
+import java.util.List;
+
+/**
+ * Record com os erros de uma linha rejeitada na importação de cursos
+ *
+ * @param line   número da linha no arquivo (o cabeçalho é a linha 1)
+ * @param errors erros de validação ou de persistência da linha
+ */
+public record CourseImportRowError(
+    long line,
+    List<ValidationError> errors
+) {
+}
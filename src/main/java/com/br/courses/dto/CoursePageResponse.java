@@ -0,0 +1,13 @@
+package com.br.courses.dto;
+
+import java.util.List;
+
+/**
+ * Record para resposta paginada de cursos (keyset)
+ * nextCursor é null quando não há mais páginas
+ */
+public record CoursePageResponse<T>(
+    List<T> items,
+    String nextCursor
+) {
+}
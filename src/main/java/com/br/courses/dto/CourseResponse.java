@@ -8,7 +8,8 @@ public record CourseResponse(
     String title,
     String description,
     String category,
-    Integer duration
+    Integer duration,
+    Long version
 ) {
 }
 
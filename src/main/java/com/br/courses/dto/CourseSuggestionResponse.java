@@ -0,0 +1,10 @@
+package com.br.courses.dto;
+
+/**
+ * Record para uma sugestão de autocomplete: id e título original do curso
+ */
+public record CourseSuggestionResponse(
+    Long id,
+    String title
+) {
+}
@@ -0,0 +1,14 @@
+package com.br.courses.dto;
+
+/**
+ * Record para resposta resumida de curso, usada nas listagens
+ * Não inclui a descrição (coluna TEXT), que só é lida quando solicitada
+ */
+public record CourseSummaryResponse(
+    Long id,
+    String title,
+    String category,
+    Integer duration,
+    Long version
+) {
+}
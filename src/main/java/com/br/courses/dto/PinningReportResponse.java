@@ -0,0 +1,13 @@
+package com.br.courses.dto;
+
+import java.util.List;
+
+/**
+ * Record com o relatório de pinning de virtual threads desde a inicialização
+ */
+public record PinningReportResponse(
+    long thresholdMillis,
+    long events,
+    List<PinningSiteResponse> sites
+) {
+}
@@ -0,0 +1,15 @@
+package com.br.courses.dto;
+
+import java.util.List;
+
+/**
+ * Record com os eventos de pinning agrupados pela mesma pilha de chamadas
+ */
+public record PinningSiteResponse(
+    String site,
+    long count,
+    double totalMillis,
+    double maxMillis,
+    List<String> stackTrace
+) {
+}
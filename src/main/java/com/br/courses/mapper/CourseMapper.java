@@ -29,7 +29,8 @@ public class CourseMapper {
             course.getTitle(),
             course.getDescription(),
             course.getCategory(),
-            course.getDuration()
+            course.getDuration(),
+            course.getVersion()
         );
     }
 
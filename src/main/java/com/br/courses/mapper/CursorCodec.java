@@ -0,0 +1,80 @@
+package com.br.courses.mapper;
+
+import com.br.courses.exception.BadRequestException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica e decodifica cursores opacos usados na paginação por keyset
+ * e os tokens da sincronização incremental (GET /api/courses/changes)
+ */
+@Component
+public class CursorCodec {
+
+    private static final String PREFIX = "v1:";
+    private static final String CHANGE_PREFIX = "c1:";
+
+    /**
+     * Posição na sequência de mudanças: versão de mudança e id do último curso entregue
+     */
+    public record ChangeToken(long changeVersion, long courseId) {
+    }
+
+    /**
+     * Converte o último id visto em um cursor opaco
+     *
+     * @param lastId último id retornado na página
+     * @return cursor em Base64 URL-safe
+     */
+    public String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converte um cursor opaco de volta no último id visto
+     *
+     * @param cursor cursor recebido do cliente
+     * @return último id visto
+     * @throws BadRequestException se o cursor for inválido
+     */
+    public long decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new BadRequestException("Cursor inválido: " + cursor);
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor inválido: " + cursor);
+        }
+    }
+
+    /**
+     * Converte uma posição da sequência de mudanças em um token opaco
+     */
+    public String encodeChangeToken(ChangeToken token) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((CHANGE_PREFIX + token.changeVersion() + ":" + token.courseId()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converte um token de sincronização de volta na posição da sequência de mudanças
+     *
+     * @throws BadRequestException se o token for inválido
+     */
+    public ChangeToken decodeChangeToken(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (!raw.startsWith(CHANGE_PREFIX) || parts.length != 3) {
+                throw new BadRequestException("Token de sincronização inválido: " + token);
+            }
+            return new ChangeToken(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Token de sincronização inválido: " + token);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.br.courses.model;
 
+import com.br.courses.repository.CourseChangeVersionListener;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
@@ -10,11 +12,21 @@ import lombok.Data;
 
 @Data
 @Entity
+@Table(indexes = {
+        // Filtros por categoria com ou sem faixa de duração usam o prefixo (category)
+        @Index(name = "idx_course_category_duration", columnList = "category, duration"),
+        // Filtros só por faixa de duração
+        @Index(name = "idx_course_duration", columnList = "duration"),
+        // Sincronização incremental: cursos alterados após uma versão de mudança
+        @Index(name = "idx_course_change_version", columnList = "change_version, id")
+})
+@EntityListeners(CourseChangeVersionListener.class)
 @Schema(name = "Course", description = "Modelo de dados para um curso")
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", sequenceName = "course_seq", allocationSize = 50)
     @JsonProperty("_id")
     @Schema(hidden = true)
     private Long id;
@@ -41,4 +53,17 @@ public class Course {
     @Schema(description = "Duração do curso em horas", example = "40")
     private Integer duration;
 
+    @Version
+    @Column(nullable = false)
+    @Schema(hidden = true)
+    private Long version;
+
+    /**
+     * Versão de mudança global e crescente, atribuída a cada inserção ou alteração
+     */
+    @Column(name = "change_version", nullable = false)
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long changeVersion;
+
 }
\ No newline at end of file
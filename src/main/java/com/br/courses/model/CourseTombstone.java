@@ -0,0 +1,29 @@
+package com.br.courses.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Registro de um curso removido, usado pela sincronização incremental
+ * para avisar clientes que ainda têm o curso em cache
+ */
+@Data
+@Entity
+@Table(name = "course_tombstone", indexes = {
+        @Index(name = "idx_course_tombstone_change_version", columnList = "change_version, course_id")
+})
+public class CourseTombstone {
+
+    /** ids de curso vêm de sequence e nunca são reutilizados */
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+}
@@ -0,0 +1,29 @@
+package com.br.courses.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Refresh token já usado (rotacionado) ou família de refresh tokens revogada
+ * A linha só é necessária até o token mais longo que ela bloqueia expirar; depois é compactada
+ */
+@Data
+@Entity
+@Table(name = "revoked_token", indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+})
+public class RevokedToken {
+
+    /** "jti:" + id do token ou "family:" + id da família */
+    @Id
+    @Column(length = 80)
+    private String id;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+}
@@ -0,0 +1,132 @@
+package com.br.courses.reactive;
+
+import com.br.courses.dto.CourseResponse;
+import com.br.courses.dto.CourseSummaryResponse;
+import com.br.courses.exception.ApiError;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.model.Course;
+import com.br.courses.service.CourseSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Endpoints reativos de leitura do catálogo, equivalentes aos do CourseController
+ * Nenhuma requisição segura uma thread enquanto espera o banco ou um cliente lento:
+ * as listagens são emitidas sob demanda (backpressure) até o socket
+ */
+@Component
+@Profile("reactive")
+public class ReactiveCourseHandler {
+
+    static final int MAX_SEARCH_RESULTS = 50;
+
+    private final ReactiveCourseRepository repository;
+    private final CourseSearchIndex searchIndex;
+    private final CourseMapper courseMapper;
+    private final int prefetch;
+
+    public ReactiveCourseHandler(ReactiveCourseRepository repository,
+                                 CourseSearchIndex searchIndex,
+                                 CourseMapper courseMapper,
+                                 @Value("${app.reactive.stream-prefetch:256}") int prefetch) {
+        this.repository = repository;
+        this.searchIndex = searchIndex;
+        this.courseMapper = courseMapper;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Lista todos os cursos; com Accept: application/x-ndjson cada curso é enviado
+     * assim que lido, em vez de um único array JSON
+     */
+    public Mono<ServerResponse> list(ServerRequest request) {
+        MediaType mediaType = wantsStream(request) ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        if (includeDescription(request)) {
+            Flux<CourseResponse> courses = repository.findAll()
+                    .limitRate(prefetch)
+                    .map(courseMapper::toResponse);
+            return ServerResponse.ok().contentType(mediaType).body(courses, CourseResponse.class);
+        }
+        Flux<CourseSummaryResponse> summaries = repository.findAllSummaries().limitRate(prefetch);
+        return ServerResponse.ok().contentType(mediaType).body(summaries, CourseSummaryResponse.class);
+    }
+
+    public Mono<ServerResponse> find(ServerRequest request) {
+        Long id;
+        try {
+            id = Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            return error(HttpStatus.BAD_REQUEST, "ID inválido: " + request.pathVariable("id"));
+        }
+        return repository.findById(id)
+                .map(courseMapper::toResponse)
+                .flatMap(course -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(course))
+                .switchIfEmpty(Mono.defer(() -> error(HttpStatus.NOT_FOUND, "Curso não encontrado com id: " + id)));
+    }
+
+    /**
+     * Ranqueia no índice em memória e carrega os cursos encontrados com uma única consulta
+     */
+    public Mono<ServerResponse> search(ServerRequest request) {
+        String query = request.queryParam("q").orElse("");
+        if (query.isBlank()) {
+            return error(HttpStatus.BAD_REQUEST, "O parâmetro q é obrigatório");
+        }
+        int limit;
+        try {
+            limit = request.queryParam("limit").map(Integer::parseInt).orElse(10);
+        } catch (NumberFormatException e) {
+            return error(HttpStatus.BAD_REQUEST, "O parâmetro limit deve ser numérico");
+        }
+
+        List<Long> ids = searchIndex.search(query, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS))).stream()
+                .map(CourseSearchIndex.SearchHit::courseId)
+                .toList();
+        Mono<List<Course>> ranked = repository.findAllById(ids)
+                .collectMap(Course::getId)
+                .map(byId -> inRankOrder(ids, byId));
+
+        if (includeDescription(request)) {
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                    .body(ranked.map(courseMapper::toResponseList), List.class);
+        }
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                .body(ranked.map(courses -> courses.stream().map(ReactiveCourseHandler::toSummary).toList()), List.class);
+    }
+
+    private static List<Course> inRankOrder(List<Long> ids, Map<Long, Course> byId) {
+        // Um curso removido depois da busca no índice simplesmente não aparece
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private static CourseSummaryResponse toSummary(Course course) {
+        return new CourseSummaryResponse(course.getId(), course.getTitle(), course.getCategory(),
+                course.getDuration(), course.getVersion());
+    }
+
+    private static boolean includeDescription(ServerRequest request) {
+        return request.queryParam("includeDescription").map(Boolean::parseBoolean).orElse(false);
+    }
+
+    private static boolean wantsStream(ServerRequest request) {
+        return request.headers().accept().stream()
+                .anyMatch(type -> type.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON));
+    }
+
+    static Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ApiError(Instant.now().toString(), status.value(), status.getReasonPhrase(), message));
+    }
+}
@@ -0,0 +1,79 @@
+package com.br.courses.reactive;
+
+import com.br.courses.dto.CourseSummaryResponse;
+import com.br.courses.model.Course;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Leitura não bloqueante da tabela course via R2DBC, sobre o mesmo banco H2 do JPA
+ * A descrição é TEXT (CLOB no H2) e é convertida para VARCHAR na própria consulta
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveCourseRepository {
+
+    private static final String COURSE_COLUMNS =
+            "id, title, cast(description as varchar) as description, category, duration, version";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Todos os cursos em ordem de id, emitidos conforme a demanda do assinante
+     */
+    public Flux<Course> findAll() {
+        return databaseClient.sql("select " + COURSE_COLUMNS + " from course order by id")
+                .map(ReactiveCourseRepository::toCourse)
+                .all();
+    }
+
+    /**
+     * Resumo de todos os cursos em ordem de id, sem ler a descrição
+     */
+    public Flux<CourseSummaryResponse> findAllSummaries() {
+        return databaseClient.sql("select id, title, category, duration, version from course order by id")
+                .map(row -> new CourseSummaryResponse(
+                        row.get("id", Long.class),
+                        row.get("title", String.class),
+                        row.get("category", String.class),
+                        row.get("duration", Integer.class),
+                        row.get("version", Long.class)))
+                .all();
+    }
+
+    public Mono<Course> findById(Long id) {
+        return databaseClient.sql("select " + COURSE_COLUMNS + " from course where id = :id")
+                .bind("id", id)
+                .map(ReactiveCourseRepository::toCourse)
+                .one();
+    }
+
+    public Flux<Course> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("select " + COURSE_COLUMNS + " from course where id in (:ids)")
+                .bind("ids", ids)
+                .map(ReactiveCourseRepository::toCourse)
+                .all();
+    }
+
+    private static Course toCourse(Readable row) {
+        Course course = new Course();
+        course.setId(row.get("id", Long.class));
+        course.setTitle(row.get("title", String.class));
+        course.setDescription(row.get("description", String.class));
+        course.setCategory(row.get("category", String.class));
+        course.setDuration(row.get("duration", Integer.class));
+        course.setVersion(row.get("version", Long.class));
+        return course;
+    }
+}
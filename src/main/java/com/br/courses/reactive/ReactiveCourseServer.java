@@ -0,0 +1,71 @@
+package com.br.courses.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+/**
+ * Sobe o servidor Reactor Netty da API reativa junto com a aplicação
+ * Fica em uma porta própria porque o contexto web principal continua sendo o Tomcat (MVC)
+ */
+@Component
+@Profile("reactive")
+@Slf4j
+public class ReactiveCourseServer implements SmartLifecycle {
+
+    private final HttpHandler httpHandler;
+    private final String host;
+    private final int port;
+
+    private volatile DisposableServer server;
+
+    public ReactiveCourseServer(RouterFunction<ServerResponse> reactiveCourseRoutes,
+                                @Value("${app.reactive.host:0.0.0.0}") String host,
+                                @Value("${app.reactive.port:8081}") int port) {
+        this.httpHandler = RouterFunctions.toHttpHandler(reactiveCourseRoutes);
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .host(host)
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("API reativa de cursos disponível na porta {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer running = server;
+        server = null;
+        if (running != null) {
+            running.disposeNow(Duration.ofSeconds(10));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Porta efetiva, útil quando app.reactive.port=0
+     */
+    public int port() {
+        return server == null ? port : server.port();
+    }
+}
@@ -0,0 +1,113 @@
+package com.br.courses.reactive;
+
+import com.br.courses.security.JwtTokenProvider;
+import com.br.courses.security.TokenUserResolver;
+import com.br.courses.security.VerifiedToken;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+/**
+ * Perfil reactive: API de leitura de cursos em um servidor Reactor Netty separado do Tomcat
+ * O banco é o mesmo do JPA (H2 em memória com nome fixo), acessado via R2DBC
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveServerConfig {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private ConnectionPool connectionPool;
+
+    /**
+     * O pool de conexões fica dentro do DatabaseClient e não é exposto como bean: um bean
+     * io.r2dbc.spi.ConnectionFactory faz o DataSourceAutoConfiguration recuar, e o JPA ficaria sem DataSource
+     * Sem o pool, cada consulta abriria e fecharia uma conexão nova
+     */
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(@Value("${app.reactive.r2dbc.url}") String url,
+                                                 @Value("${app.reactive.r2dbc.username:sa}") String username,
+                                                 @Value("${app.reactive.r2dbc.password:}") String password,
+                                                 @Value("${app.reactive.r2dbc.pool.max-size:10}") int maxSize) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .maxSize(maxSize)
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Fecha as conexões do pool junto com o contexto
+     */
+    @PreDestroy
+    public void closeConnectionPool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveCourseRoutes(ReactiveCourseHandler handler,
+                                                               JwtTokenProvider jwtTokenProvider,
+                                                               TokenUserResolver userResolver) {
+        return RouterFunctions.route()
+                .GET("/api/courses/search", handler::search)
+                .GET("/api/courses/{id}", handler::find)
+                .route(GET("/api/courses"), handler::list)
+                .filter(authenticated(jwtTokenProvider, userResolver))
+                .build();
+    }
+
+    /**
+     * Mesma regra do JwtTokenFilter: /api/courses/** exige um access token válido de usuário ativo
+     * O usuário é resolvido pelo mesmo TokenUserResolver; o fallback para tokens sem claims consulta
+     * o UserDetailsService, que pode bloquear, então roda fora do event loop
+     */
+    private static HandlerFilterFunction<ServerResponse, ServerResponse> authenticated(JwtTokenProvider jwtTokenProvider,
+                                                                                       TokenUserResolver userResolver) {
+        return (request, next) -> {
+            String header = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+            VerifiedToken token = header != null && header.startsWith(BEARER_PREFIX)
+                    ? jwtTokenProvider.verify(header.substring(BEARER_PREFIX.length()))
+                        .filter(VerifiedToken::isAccessToken).orElse(null)
+                    : null;
+            if (token == null) {
+                return unauthorized();
+            }
+            Mono<UserDetails> user = userResolver.resolvesFromClaims(token)
+                    ? Mono.justOrEmpty(userResolver.resolve(token))
+                    : Mono.fromCallable(() -> userResolver.resolve(token)).subscribeOn(Schedulers.boundedElastic());
+            return user
+                    .onErrorResume(AuthenticationException.class, e -> Mono.empty())
+                    .flatMap(userDetails -> next.handle(request))
+                    .switchIfEmpty(Mono.defer(ReactiveServerConfig::unauthorized));
+        };
+    }
+
+    private static Mono<ServerResponse> unauthorized() {
+        return ReactiveCourseHandler.error(HttpStatus.UNAUTHORIZED, "Token de acesso ausente ou inválido");
+    }
+}
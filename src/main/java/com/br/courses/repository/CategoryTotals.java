@@ -0,0 +1,12 @@
+package com.br.courses.repository;
+
+/**
+ * Projeção com a quantidade de cursos e o total de horas por categoria
+ */
+public interface CategoryTotals {
+    String getCategory();
+
+    Long getCourses();
+
+    Long getTotalHours();
+}
@@ -0,0 +1,77 @@
+package com.br.courses.repository;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Aloca as versões de mudança dos cursos (inserções, alterações e remoções)
+ * Versões são crescentes, mas transações concorrentes podem confirmar fora de ordem; por isso
+ * cada versão fica "em andamento" até sua transação terminar, e a sincronização incremental
+ * só entrega mudanças até a marca estável, abaixo da menor versão ainda em andamento
+ * Não tem dependências para poder ser usado pelo listener de entidade do Hibernate
+ */
+@Component
+public class ChangeVersionAllocator {
+
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    private long last;
+
+    /**
+     * Avança o contador para depois de uma versão já persistida (usado na inicialização)
+     */
+    public synchronized void advanceTo(long changeVersion) {
+        last = Math.max(last, changeVersion);
+    }
+
+    /**
+     * Aloca a próxima versão, que fica em andamento até o fim da transação atual
+     */
+    public long next() {
+        long changeVersion;
+        synchronized (this) {
+            changeVersion = ++last;
+            inFlight.add(changeVersion);
+        }
+        holdUntilCompletion(changeVersion);
+        return changeVersion;
+    }
+
+    /**
+     * Maior versão abaixo da qual todas as mudanças já foram confirmadas ou descartadas
+     */
+    public synchronized long stableWatermark() {
+        return inFlight.isEmpty() ? last : inFlight.first() - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void holdUntilCompletion(long changeVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(List.of(changeVersion));
+            return;
+        }
+        // Uma única sincronização por transação, mesmo com centenas de versões (inserts em lote)
+        List<Long> held = (List<Long>) TransactionSynchronizationManager.getResource(this);
+        if (held == null) {
+            List<Long> versions = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, versions);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeVersionAllocator.this);
+                    release(versions);
+                }
+            });
+            held = versions;
+        }
+        held.add(changeVersion);
+    }
+
+    private synchronized void release(List<Long> versions) {
+        versions.forEach(inFlight::remove);
+    }
+}
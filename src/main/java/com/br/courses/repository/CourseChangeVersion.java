@@ -0,0 +1,10 @@
+package com.br.courses.repository;
+
+/**
+ * Projeção com a versão de mudança vigente de um curso (ou do registro de sua remoção)
+ */
+public interface CourseChangeVersion {
+    Long getCourseId();
+
+    Long getChangeVersion();
+}
@@ -0,0 +1,24 @@
+package com.br.courses.repository;
+
+import com.br.courses.model.Course;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Atribui uma nova versão de mudança a cada curso inserido ou alterado
+ * Instanciado pelo Hibernate através do container de beans do Spring
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseChangeVersionListener {
+
+    private final ChangeVersionAllocator allocator;
+
+    @PrePersist
+    @PreUpdate
+    public void assignChangeVersion(Course course) {
+        course.setChangeVersion(allocator.next());
+    }
+}
@@ -0,0 +1,49 @@
+package com.br.courses.repository;
+
+import com.br.courses.dto.CourseFilter;
+import com.br.courses.model.Course;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Traduz um CourseFilter em predicados da Criteria API
+ * Compartilhado por consultas, updates e deletes para que todos selecionem os mesmos cursos
+ */
+public final class CoursePredicates {
+
+    private CoursePredicates() {
+    }
+
+    public static Predicate[] matching(CourseFilter filter, Root<Course> root, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.category() != null) {
+            predicates.add(cb.equal(root.get("category"), filter.category()));
+        }
+        if (filter.ids() != null && !filter.ids().isEmpty()) {
+            predicates.add(root.get("id").in(filter.ids()));
+        }
+        if (filter.minDuration() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.<Integer>get("duration"), filter.minDuration()));
+        }
+        if (filter.maxDuration() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.<Integer>get("duration"), filter.maxDuration()));
+        }
+        if (filter.title() != null && !filter.title().isBlank()) {
+            String pattern = "%" + escapeLike(filter.title().trim().toLowerCase(Locale.ROOT)) + "%";
+            predicates.add(cb.like(cb.lower(root.<String>get("title")), pattern, '\\'));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    /**
+     * Escapa os curingas do LIKE para que o trecho informado seja buscado literalmente
+     */
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
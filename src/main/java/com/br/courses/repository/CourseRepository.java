@@ -1,11 +1,102 @@
 package com.br.courses.repository;
 
 
+import com.br.courses.dto.CourseSummaryResponse;
 import com.br.courses.model.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
+public interface CourseRepository extends JpaRepository<Course, Long>, CourseRepositoryCustom {
+
+    /**
+     * Busca a próxima página de cursos por keyset (id maior que o último visto)
+     * O custo é o mesmo independente da profundidade da página
+     */
+    List<Course> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Projeções resumidas: não leem a coluna TEXT de descrição
+     */
+    @Query("select new com.br.courses.dto.CourseSummaryResponse(c.id, c.title, c.category, c.duration, c.version) " +
+            "from Course c order by c.id")
+    List<CourseSummaryResponse> findAllSummaries();
+
+    @Query("select new com.br.courses.dto.CourseSummaryResponse(c.id, c.title, c.category, c.duration, c.version) " +
+            "from Course c where c.id > :afterId order by c.id")
+    List<CourseSummaryResponse> findSummariesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new com.br.courses.dto.CourseSummaryResponse(c.id, c.title, c.category, c.duration, c.version) " +
+            "from Course c where c.id in :ids")
+    List<CourseSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Percorre todos os cursos como um Stream, lendo do banco em lotes (fetch size)
+     * Deve ser consumido dentro de uma transação e fechado ao final
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Course c order by c.id")
+    Stream<Course> streamAll();
+
+    /**
+     * Lê somente a versão do curso, sem carregar a entidade (usado para ETag)
+     */
+    @Query("select c.version from Course c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Cursos criados ou alterados após a posição (changeVersion, id), até a marca estável
+     */
+    @Query("select c from Course c where c.changeVersion <= :upTo " +
+            "and (c.changeVersion > :changeVersion or (c.changeVersion = :changeVersion and c.id > :id)) " +
+            "order by c.changeVersion, c.id")
+    List<Course> findChangedAfter(@Param("changeVersion") long changeVersion,
+                                  @Param("id") long id,
+                                  @Param("upTo") long upTo,
+                                  Limit limit);
+
+    /**
+     * Ids dos cursos gravados com a versão de mudança (a de um UPDATE em massa)
+     */
+    @Query("select c.id from Course c where c.changeVersion = :changeVersion order by c.id")
+    List<Long> findIdsByChangeVersion(@Param("changeVersion") long changeVersion);
+
+    /**
+     * Um único DELETE dos cursos com remoção registrada na versão de mudança
+     *
+     * @return quantidade de linhas removidas
+     */
+    @Modifying
+    @Query("delete from Course c where c.id in " +
+            "(select t.courseId from CourseTombstone t where t.changeVersion = :changeVersion)")
+    int deleteTombstoned(@Param("changeVersion") long changeVersion);
+
+    /**
+     * Versão de mudança vigente dos cursos alterados após a versão
+     */
+    @Query("select c.id as courseId, c.changeVersion as changeVersion from Course c where c.changeVersion > :changeVersion")
+    List<CourseChangeVersion> findChangeVersionsAfter(@Param("changeVersion") long changeVersion);
+
+    @Query("select coalesce(max(c.changeVersion), 0) from Course c")
+    long findMaxChangeVersion();
 
+    @Query("select c.category as category, count(c) as courses, coalesce(sum(c.duration), 0) as totalHours " +
+            "from Course c group by c.category")
+    List<CategoryTotals> sumByCategory();
 }
@@ -0,0 +1,26 @@
+package com.br.courses.repository;
+
+import com.br.courses.dto.CourseFilter;
+import com.br.courses.dto.CourseSummaryResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Operações de CourseRepository construídas com a Criteria API
+ */
+public interface CourseRepositoryCustom {
+
+    /**
+     * Resumos dos cursos que atendem ao filtro, na ordenação e página informadas
+     */
+    List<CourseSummaryResponse> findSummaries(CourseFilter filter, Pageable pageable);
+
+    /**
+     * Um único UPDATE em massa; campos nulos não são alterados
+     * Todos os cursos alterados recebem a mesma versão de mudança
+     *
+     * @return quantidade de linhas alteradas
+     */
+    int bulkUpdate(CourseFilter filter, String category, Integer duration, long changeVersion);
+}
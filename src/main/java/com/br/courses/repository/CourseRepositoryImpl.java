@@ -0,0 +1,58 @@
+package com.br.courses.repository;
+
+import com.br.courses.dto.CourseFilter;
+import com.br.courses.dto.CourseSummaryResponse;
+import com.br.courses.model.Course;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Implementação das operações customizadas de CourseRepository
+ */
+public class CourseRepositoryImpl implements CourseRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CourseSummaryResponse> findSummaries(CourseFilter filter, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CourseSummaryResponse> query = cb.createQuery(CourseSummaryResponse.class);
+        Root<Course> root = query.from(Course.class);
+        query.select(cb.construct(CourseSummaryResponse.class,
+                        root.get("id"), root.get("title"), root.get("category"), root.get("duration"), root.get("version")))
+                .where(CoursePredicates.matching(filter, root, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public int bulkUpdate(CourseFilter filter, String category, Integer duration, long changeVersion) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Course> update = cb.createCriteriaUpdate(Course.class);
+        Root<Course> root = update.from(Course.class);
+        if (category != null) {
+            update.set(root.<String>get("category"), category);
+        }
+        if (duration != null) {
+            update.set(root.<Integer>get("duration"), duration);
+        }
+        // Incrementa a versão para invalidar ETags e manter o lock otimista coerente
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        // UPDATE em massa não passa pelo listener de entidade
+        update.set(root.<Long>get("changeVersion"), changeVersion);
+        update.where(CoursePredicates.matching(filter, root, cb));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,60 @@
+package com.br.courses.repository;
+
+import com.br.courses.model.CourseTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CourseTombstoneRepository extends JpaRepository<CourseTombstone, Long>, CourseTombstoneRepositoryCustom {
+
+    /**
+     * Registra a remoção dos cursos informados com um único INSERT ... SELECT
+     * Usado na remoção individual; remoções em massa usam insertMatching com o filtro
+     * Deve ser executado antes do DELETE, na mesma transação
+     * Cursos que já têm remoção registrada (remoção concorrente) são ignorados em vez de violar a PK
+     *
+     * @return quantidade de remoções registradas
+     */
+    @Modifying
+    @Query("insert into CourseTombstone (courseId, changeVersion, deletedAt) " +
+            "select c.id, :changeVersion, :deletedAt from Course c where c.id in :ids " +
+            "on conflict (courseId) do nothing")
+    int insertForCourses(@Param("ids") Collection<Long> ids,
+                         @Param("changeVersion") long changeVersion,
+                         @Param("deletedAt") Instant deletedAt);
+
+    /**
+     * Ids dos cursos com remoção registrada na versão de mudança (a de uma remoção em massa)
+     */
+    @Query("select t.courseId from CourseTombstone t where t.changeVersion = :changeVersion order by t.courseId")
+    List<Long> findCourseIdsByChangeVersion(@Param("changeVersion") long changeVersion);
+
+    /**
+     * Remoções posteriores à posição (changeVersion, courseId), até a marca estável
+     */
+    @Query("select t from CourseTombstone t where t.changeVersion <= :upTo " +
+            "and (t.changeVersion > :changeVersion or (t.changeVersion = :changeVersion and t.courseId > :courseId)) " +
+            "order by t.changeVersion, t.courseId")
+    List<CourseTombstone> findDeletedAfter(@Param("changeVersion") long changeVersion,
+                                           @Param("courseId") long courseId,
+                                           @Param("upTo") long upTo,
+                                           Limit limit);
+
+    /**
+     * Versão de mudança das remoções registradas após a versão
+     */
+    @Query("select t.courseId as courseId, t.changeVersion as changeVersion from CourseTombstone t " +
+            "where t.changeVersion > :changeVersion")
+    List<CourseChangeVersion> findChangeVersionsAfter(@Param("changeVersion") long changeVersion);
+
+    @Query("select coalesce(max(t.changeVersion), 0) from CourseTombstone t")
+    long findMaxChangeVersion();
+}
@@ -0,0 +1,21 @@
+package com.br.courses.repository;
+
+import com.br.courses.dto.CourseFilter;
+
+import java.time.Instant;
+
+/**
+ * Operações de CourseTombstoneRepository construídas com a Criteria API
+ */
+public interface CourseTombstoneRepositoryCustom {
+
+    /**
+     * Registra a remoção de todos os cursos do filtro com um único INSERT ... SELECT
+     * Usa os mesmos predicados das consultas e updates em massa; deve ser executado antes do DELETE,
+     * na mesma transação
+     * Cursos que já têm remoção registrada (remoção concorrente) são ignorados
+     *
+     * @return quantidade de remoções registradas
+     */
+    int insertMatching(CourseFilter filter, long changeVersion, Instant deletedAt);
+}
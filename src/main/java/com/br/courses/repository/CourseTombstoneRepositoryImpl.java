@@ -0,0 +1,45 @@
+package com.br.courses.repository;
+
+import com.br.courses.dto.CourseFilter;
+import com.br.courses.model.Course;
+import com.br.courses.model.CourseTombstone;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaInsertSelect;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaRoot;
+
+import java.time.Instant;
+
+/**
+ * Implementação das operações customizadas de CourseTombstoneRepository
+ * A Criteria API do JPA não tem INSERT; a extensão do Hibernate monta o INSERT ... SELECT
+ */
+public class CourseTombstoneRepositoryImpl implements CourseTombstoneRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertMatching(CourseFilter filter, long changeVersion, Instant deletedAt) {
+        Session session = entityManager.unwrap(Session.class);
+        HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+        JpaCriteriaQuery<Tuple> courses = cb.createTupleQuery();
+        Root<Course> root = courses.from(Course.class);
+        courses.multiselect(root.get("id"), cb.literal(changeVersion), cb.literal(deletedAt))
+                .where(CoursePredicates.matching(filter, root, cb));
+
+        JpaCriteriaInsertSelect<CourseTombstone> insert = cb.createCriteriaInsertSelect(CourseTombstone.class);
+        JpaRoot<CourseTombstone> target = insert.getTarget();
+        insert.setInsertionTargetPaths(target.get("courseId"), target.get("changeVersion"), target.get("deletedAt"));
+        insert.select(courses);
+        // Curso removido ao mesmo tempo por outra operação já tem registro: é pulado em vez de violar a PK
+        insert.onConflict().conflictOnConstraintPaths(target.get("courseId")).onConflictDoNothing();
+        return session.createMutationQuery(insert).executeUpdate();
+    }
+}
@@ -0,0 +1,35 @@
+package com.br.courses.repository;
+
+import com.br.courses.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * INSERT direto (sem o merge do save): um id já revogado falha com violação de chave primária,
+     * o que detecta o reuso de um refresh token mesmo com duas requisições concorrentes
+     */
+    @Modifying
+    @Transactional
+    @Query("insert into RevokedToken (id, expiresAt, revokedAt) values (:id, :expiresAt, :revokedAt)")
+    int insert(@Param("id") String id,
+               @Param("expiresAt") Instant expiresAt,
+               @Param("revokedAt") Instant revokedAt);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RevokedToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+
+    @Query("select t.id from RevokedToken t")
+    List<String> findAllIds();
+}
@@ -4,30 +4,49 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Filtro JWT que valida tokens em cada requisição
  * Executa uma única vez por requisição (OncePerRequestFilter)
+ * O token é verificado uma única vez (JwtTokenProvider.verify) e rotas públicas nem passam pelo filtro
+ * Papéis e situação do usuário vêm das claims do access token (TokenUserResolver), então a requisição não consulta o banco
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final TokenUserResolver userResolver;
+
+    /** Rotas liberadas no SecurityConfig, onde o token não muda nada */
+    private static final Set<String> PUBLIC_PATHS = Set.of(
+            "/api/auth/login", "/api/auth/register", "/api/auth/refresh-token", "/api/auth/logout",
+            "/swagger-ui.html", "/api-docs");
+    private static final List<String> PUBLIC_PREFIXES = List.of(
+            "/swagger-ui/", "/v3/api-docs/", "/api-docs/", "/swagger-resources/");
+
+    public JwtTokenFilter(JwtTokenProvider jwtTokenProvider, TokenUserResolver userResolver) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userResolver = userResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return PUBLIC_PATHS.contains(path) || PUBLIC_PREFIXES.stream().anyMatch(path::startsWith);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -36,10 +55,12 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
+            // Refresh tokens não autenticam requisições, só renovam o access token
+            VerifiedToken token = StringUtils.hasText(jwt)
+                    ? jwtTokenProvider.verify(jwt).filter(VerifiedToken::isAccessToken).orElse(null)
+                    : null;
+            UserDetails userDetails = token == null ? null : userResolver.resolve(token);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -49,7 +70,7 @@ public class JwtTokenFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Set the security context with JWT token for user: {}", username);
+                log.debug("Set the security context with JWT token for user: {}", token.subject());
             }
         } catch (Exception e) {
             log.error("Could not set user authentication in security context: {}", e.getMessage());
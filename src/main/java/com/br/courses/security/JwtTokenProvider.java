@@ -1,94 +1,188 @@
 package com.br.courses.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Classe responsável por gerar, validar e extrair informações de tokens JWT
+ * A chave HMAC e o parser são criados uma única vez; tokens já verificados ficam em um
+ * cache limitado até expirarem, então um portador recorrente não paga o HMAC de novo
+ * O access token carrega papéis e situação (enabled) do usuário: a requisição autenticada não
+ * consulta o banco, ao custo de mudanças de papel ou desativação só valerem no próximo token
+ * (janela de defasagem limitada a app.jwt.expiration)
  */
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
-
-    @Value("${app.jwt.expiration}")
-    private long jwtExpirationMs;
-
-    @Value("${app.jwt.refresh-expiration}")
-    private long refreshTokenExpirationMs;
+    static final String TYPE_CLAIM = "type";
+    static final String ROLES_CLAIM = "roles";
+    static final String ENABLED_CLAIM = "enabled";
+    static final String FAMILY_CLAIM = "family";
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final long jwtExpirationMs;
+    private final long refreshTokenExpirationMs;
+
+    /** token -> resultado da verificação; null quando o cache está desativado (max-size = 0) */
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(@Value("${app.jwt.secret}") String jwtSecret,
+                            @Value("${app.jwt.expiration}") long jwtExpirationMs,
+                            @Value("${app.jwt.refresh-expiration}") long refreshTokenExpirationMs,
+                            @Value("${app.jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+                            @Value("${app.jwt.verified-cache.ttl:5m}") Duration verifiedCacheTtl) {
+        this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.refreshTokenExpirationMs = refreshTokenExpirationMs;
+        this.verifiedTokens = verifiedCacheMaxSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(untilTokenExpires(verifiedCacheTtl))
+                .build();
+    }
 
     /**
      * Gera um JWT Access Token a partir da autenticação
+     * As authorities e o enabled do principal viram claims, lidas pelo JwtTokenFilter sem ir ao banco
      */
     public String generateAccessToken(Authentication authentication) {
         String username = authentication.getName();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
-
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        boolean enabled = !(authentication.getPrincipal() instanceof UserDetails user) || user.isEnabled();
 
         return Jwts.builder()
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
+                .claim(ROLES_CLAIM, roles)
+                .claim(ENABLED_CLAIM, enabled)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     /**
-     * Gera um JWT Refresh Token a partir do username
+     * Gera um JWT Refresh Token a partir do username, iniciando uma nova família de tokens
      */
     public String generateRefreshToken(String username) {
+        return generateRefreshToken(username, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Gera um JWT Refresh Token com id único (jti) dentro da família informada
+     * Cada renovação emite o próximo token da mesma família; reusar um token já trocado revoga a família
+     */
+    public String generateRefreshToken(String username, String family) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshTokenExpirationMs);
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
         return Jwts.builder()
                 .setSubject(username)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .claim("type", "REFRESH")
+                .claim(TYPE_CLAIM, VerifiedToken.TokenType.REFRESH.name())
+                .claim(FAMILY_CLAIM, family)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * Verifica assinatura e validade do token uma única vez e devolve subject, expiração e tipo
+     * Tokens já verificados são respondidos pelo cache até expirarem
+     *
+     * @return o token verificado, ou vazio se o token for inválido ou estiver expirado
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+        if (verifiedTokens != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(token);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        Optional<VerifiedToken> verified = parse(token).map(VerifiedToken::from);
+        if (verifiedTokens != null) {
+            verified.ifPresent(result -> verifiedTokens.put(token, result));
+        }
+        return verified;
+    }
+
+    /**
+     * Remove o token do cache de verificados (refresh token rotacionado ou revogado)
+     */
+    public void evict(String token) {
+        if (verifiedTokens != null && token != null) {
+            verifiedTokens.invalidate(token);
+        }
+    }
+
     /**
      * Extrai o username do token JWT
      */
     public String getUsernameFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 
     /**
      * Valida o token JWT
      */
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    /**
+     * Verifica se o token está expirado
+     */
+    public boolean isTokenExpired(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return claims.getExpiration().before(new Date());
+        } catch (Exception e) {
             return true;
+        }
+    }
+
+    /**
+     * Extrai as claims do token
+     */
+    public Claims getClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private Optional<Claims> parse(String token) {
+        try {
+            return Optional.of(parser.parseClaimsJws(token).getBody());
         } catch (io.jsonwebtoken.security.SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (io.jsonwebtoken.MalformedJwtException e) {
@@ -102,36 +196,33 @@ public class JwtTokenProvider {
         } catch (Exception e) {
             log.error("JWT validation error: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
     /**
-     * Verifica se o token está expirado
+     * Cada token sai do cache no que vier primeiro: a própria expiração ou o TTL máximo
+     * O TTL limita por quanto tempo um token continua aceito sem passar pelo parser
      */
-    public boolean isTokenExpired(String token) {
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            return true;
-        }
-    }
-
-    /**
-     * Extrai as claims do token
-     */
-    public Claims getClaims(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static Expiry<String, VerifiedToken> untilTokenExpires(Duration maxTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                if (verified.expiresAt() == null) {
+                    return maxTtl.toNanos();
+                }
+                long untilExpiry = Duration.between(Instant.now(), verified.expiresAt()).toNanos();
+                return Math.max(0, Math.min(untilExpiry, maxTtl.toNanos()));
+            }
+
+            @Override
+            public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                return expireAfterCreate(token, verified, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
     }
 }
-
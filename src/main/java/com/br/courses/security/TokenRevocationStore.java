@@ -0,0 +1,178 @@
+package com.br.courses.security;
+
+import com.br.courses.repository.RevokedTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registro de refresh tokens já usados e de famílias de tokens revogadas
+ * A tabela revoked_token é a fonte da verdade; um Bloom filter em memória com todos os ids
+ * responde o caso comum ("não revogado") sem I/O, e só um possível positivo consulta o banco
+ * Linhas expiradas são removidas periodicamente e o filtro é reconstruído a partir das restantes
+ */
+@Component
+@Slf4j
+public class TokenRevocationStore implements SmartInitializingSingleton {
+
+    private static final String TOKEN_PREFIX = "jti:";
+    private static final String FAMILY_PREFIX = "family:";
+
+    private final RevokedTokenRepository repository;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final Duration familyRetention;
+    private final Duration compactionInterval;
+    private final ScheduledExecutorService compactor;
+
+    private volatile BloomFilter filter;
+
+    /** filtro em construção durante a compactação; recebe as revogações feitas enquanto isso */
+    private volatile BloomFilter rebuilding;
+
+    private final Object rebuildLock = new Object();
+
+    @Autowired
+    public TokenRevocationStore(RevokedTokenRepository repository,
+                                @Value("${app.jwt.revocation.expected-entries:100000}") long expectedEntries,
+                                @Value("${app.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${app.jwt.refresh-expiration}") long refreshTokenExpirationMs,
+                                @Value("${app.jwt.revocation.compaction-interval:1h}") Duration compactionInterval) {
+        this(repository, expectedEntries, falsePositiveRate, Duration.ofMillis(refreshTokenExpirationMs), compactionInterval,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "revoked-token-compaction");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    TokenRevocationStore(RevokedTokenRepository repository, long expectedEntries, double falsePositiveRate,
+                         Duration familyRetention, Duration compactionInterval, ScheduledExecutorService compactor) {
+        this.repository = repository;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.familyRetention = familyRetention;
+        this.compactionInterval = compactionInterval;
+        this.compactor = compactor;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * Carrega o filtro antes do servidor web aceitar requisições e agenda a compactação
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+        compactor.scheduleWithFixedDelay(this::compactQuietly,
+                compactionInterval.toMillis(), compactionInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        compactor.shutdownNow();
+    }
+
+    public boolean isTokenRevoked(String jti) {
+        return isRevoked(TOKEN_PREFIX + jti);
+    }
+
+    public boolean isFamilyRevoked(String family) {
+        return isRevoked(FAMILY_PREFIX + family);
+    }
+
+    /**
+     * Marca o refresh token como usado
+     *
+     * @param expiresAt expiração do próprio token; depois dela a linha pode ser compactada
+     * @return false se o token já estava revogado, ou seja, está sendo reutilizado
+     */
+    public boolean revokeToken(String jti, Instant expiresAt) {
+        return insert(TOKEN_PREFIX + jti, expiresAt);
+    }
+
+    /**
+     * Revoga todos os refresh tokens da família (logout ou reuso detectado)
+     * A linha vale pelo prazo do refresh token, o maior que um token da família ainda pode ter
+     */
+    public void revokeFamily(String family) {
+        insert(FAMILY_PREFIX + family, Instant.now().plus(familyRetention));
+    }
+
+    /**
+     * Remove as revogações de tokens já expirados e reconstrói o filtro com as restantes
+     *
+     * @return quantidade de linhas removidas
+     */
+    public int compact() {
+        int deleted = repository.deleteExpired(Instant.now());
+        rebuild();
+        log.info("Compactação de tokens revogados: {} linhas expiradas removidas", deleted);
+        return deleted;
+    }
+
+    /**
+     * Reconstrói o filtro a partir do banco
+     * Revogações concorrentes entram também no filtro em construção, então nenhuma se perde na troca
+     */
+    void rebuild() {
+        synchronized (rebuildLock) {
+            BloomFilter next = new BloomFilter(expectedEntries, falsePositiveRate);
+            rebuilding = next;
+            try {
+                List<String> ids = repository.findAllIds();
+                ids.forEach(next::put);
+                filter = next;
+                if (ids.size() > expectedEntries) {
+                    log.warn("Tokens revogados ({}) acima da capacidade do Bloom filter ({}): mais consultas ao banco",
+                            ids.size(), expectedEntries);
+                }
+            } finally {
+                rebuilding = null;
+            }
+        }
+    }
+
+    private boolean isRevoked(String id) {
+        return filter.mightContain(id) && repository.existsById(id);
+    }
+
+    private boolean insert(String id, Instant expiresAt) {
+        boolean inserted;
+        try {
+            repository.insert(id, expiresAt, Instant.now());
+            inserted = true;
+        } catch (DataIntegrityViolationException e) {
+            inserted = false;
+        }
+        // Só depois do commit: uma reconstrução que leu o banco antes dele recebe o id por aqui
+        BloomFilter current;
+        do {
+            current = filter;
+            current.put(id);
+            BloomFilter next = rebuilding;
+            if (next != null) {
+                next.put(id);
+            }
+        } while (current != filter);
+        return inserted;
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            log.error("Falha na compactação de tokens revogados: {}", e.getMessage());
+        }
+    }
+}
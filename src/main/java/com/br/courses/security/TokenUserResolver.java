@@ -0,0 +1,63 @@
+package com.br.courses.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolve o usuário de um access token já verificado
+ * Compartilhado pelo JwtTokenFilter (Tomcat) e pelas rotas do perfil reactive, para que as duas pilhas
+ * apliquem a mesma regra de claims, fallback e usuário desativado
+ */
+@Component
+@Slf4j
+public class TokenUserResolver {
+
+    private final UserDetailsService userDetailsService;
+
+    /** false: ignora as claims e carrega o usuário (do cache do UserDetailsService) em toda requisição */
+    private final boolean trustTokenClaims;
+
+    public TokenUserResolver(UserDetailsService userDetailsService,
+                             @Value("${app.jwt.trust-token-claims:true}") boolean trustTokenClaims) {
+        this.userDetailsService = userDetailsService;
+        this.trustTokenClaims = trustTokenClaims;
+    }
+
+    /**
+     * Indica se o usuário sai só das claims, sem consultar o UserDetailsService (e o banco)
+     */
+    public boolean resolvesFromClaims(VerifiedToken token) {
+        return trustTokenClaims && token.hasUserClaims();
+    }
+
+    /**
+     * Monta o usuário a partir das claims do token, sem consultar o banco
+     * Tokens emitidos antes das claims de papéis, ou com app.jwt.trust-token-claims=false,
+     * carregam o usuário pelo UserDetailsService
+     *
+     * @return o usuário autenticado, ou null se o token indicar usuário desativado
+     */
+    public UserDetails resolve(VerifiedToken token) {
+        UserDetails userDetails = resolvesFromClaims(token)
+                ? User.withUsername(token.subject())
+                    .password("")
+                    .authorities(token.roles().toArray(String[]::new))
+                    .disabled(!token.enabled())
+                    .build()
+                : userDetailsService.loadUserByUsername(token.subject());
+        if (!userDetails.isEnabled()) {
+            log.debug("Ignoring JWT token of disabled user: {}", token.subject());
+            return null;
+        }
+        // O token já foi verificado: o hash da senha não tem uso no principal da requisição
+        if (userDetails instanceof CredentialsContainer credentials) {
+            credentials.eraseCredentials();
+        }
+        return userDetails;
+    }
+}
@@ -0,0 +1,72 @@
+package com.br.courses.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Resultado de um JWT cuja assinatura e validade já foram verificadas
+ * roles e enabled vêm das claims do access token; id (jti) e family, do refresh token
+ * Ficam null em tokens emitidos antes dessas claims existirem
+ */
+public record VerifiedToken(
+    String subject,
+    Instant expiresAt,
+    TokenType type,
+    List<String> roles,
+    Boolean enabled,
+    String id,
+    String family
+) {
+    public enum TokenType {
+        ACCESS,
+        REFRESH
+    }
+
+    public VerifiedToken(String subject, Instant expiresAt, TokenType type) {
+        this(subject, expiresAt, type, null, null, null, null);
+    }
+
+    public VerifiedToken(String subject, Instant expiresAt, TokenType type, List<String> roles, Boolean enabled) {
+        this(subject, expiresAt, type, roles, enabled, null, null);
+    }
+
+    public boolean isAccessToken() {
+        return type == TokenType.ACCESS;
+    }
+
+    public boolean isRefreshToken() {
+        return type == TokenType.REFRESH;
+    }
+
+    /**
+     * Indica se o token traz papéis e situação do usuário, dispensando a consulta ao banco
+     */
+    public boolean hasUserClaims() {
+        return roles != null && enabled != null;
+    }
+
+    /**
+     * Indica se o refresh token pode ser rotacionado (tem jti e família)
+     */
+    public boolean isRotatable() {
+        return isRefreshToken() && id != null && family != null;
+    }
+
+    /**
+     * Tokens sem a claim "type" são access tokens
+     */
+    static VerifiedToken from(Claims claims) {
+        TokenType type = TokenType.REFRESH.name().equals(claims.get(JwtTokenProvider.TYPE_CLAIM, String.class))
+                ? TokenType.REFRESH
+                : TokenType.ACCESS;
+        Instant expiresAt = claims.getExpiration() == null ? null : claims.getExpiration().toInstant();
+        List<String> roles = claims.get(JwtTokenProvider.ROLES_CLAIM) instanceof List<?> values
+                ? values.stream().map(String::valueOf).toList()
+                : null;
+        Boolean enabled = claims.get(JwtTokenProvider.ENABLED_CLAIM, Boolean.class);
+        return new VerifiedToken(claims.getSubject(), expiresAt, type, roles, enabled,
+                claims.getId(), claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class));
+    }
+}
@@ -0,0 +1,55 @@
+package com.br.courses.service;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versão do catálogo inteiro, incrementada a cada mutação de curso
+ * Permite responder ETags da listagem sem consultar a tabela
+ * A época de inicialização entra no ETag para que versões de execuções anteriores
+ * (banco em memória recriado) nunca sejam confundidas com a atual
+ * A versão só avança depois que cache, índices e facetas aplicaram o evento: um ETag novo
+ * nunca é associado a uma resposta montada com estruturas derivadas ainda desatualizadas
+ */
+@Component
+public class CatalogVersion {
+
+    /** Listeners que atualizam estruturas derivadas do catálogo rodam antes da versão */
+    public static final int DERIVED_STATE_ORDER = 0;
+
+    /** Último listener que altera estado: quando a versão muda, todo o resto já foi atualizado */
+    public static final int VERSION_ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    /** Notificações a clientes (SSE) saem depois da versão, para que uma releitura já veja o catálogo novo */
+    public static final int NOTIFICATION_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong version = new AtomicLong();
+
+    @Order(VERSION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @Order(VERSION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesBulkChanged(CoursesBulkChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * ETag forte que representa o estado atual do catálogo
+     */
+    public String etag() {
+        return "\"catalog-" + Long.toString(epoch, 36) + "-" + version.get() + "\"";
+    }
+}
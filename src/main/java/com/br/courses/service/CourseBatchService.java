@@ -0,0 +1,140 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CourseBatchItemResult;
+import com.br.courses.dto.CourseRequest;
+import com.br.courses.exception.ValidationError;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.model.Course;
+import com.br.courses.repository.CourseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Criação de cursos em lote
+ * Valida cada item individualmente e persiste os válidos em blocos,
+ * cada bloco em uma transação com inserts em batch JDBC
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseBatchService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final CourseRepository repository;
+    private final CourseMapper courseMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Valida e persiste os cursos, retornando um resultado por item na mesma ordem da entrada
+     */
+    public List<CourseBatchItemResult> createAll(List<CourseRequest> requests) {
+        long start = System.nanoTime();
+        CourseBatchItemResult[] results = new CourseBatchItemResult[requests.size()];
+
+        List<Integer> chunkIndexes = new ArrayList<>(CHUNK_SIZE);
+        List<Course> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < requests.size(); i++) {
+            CourseRequest request = requests.get(i);
+            List<ValidationError> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results[i] = CourseBatchItemResult.invalid(i, errors);
+                continue;
+            }
+
+            chunkIndexes.add(i);
+            chunk.add(courseMapper.toEntity(request));
+            if (chunk.size() == CHUNK_SIZE) {
+                persistChunk(chunkIndexes, chunk, results);
+                chunkIndexes.clear();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            persistChunk(chunkIndexes, chunk, results);
+        }
+
+        long created = Arrays.stream(results)
+                .filter(result -> result.status() == CourseBatchItemResult.Status.CREATED)
+                .count();
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+        log.info("Lote de cursos processado: {} itens, {} criados em {} ms ({} cursos/s)",
+                requests.size(), created, Math.round(elapsedMs),
+                elapsedMs > 0 ? Math.round(created * 1000 / elapsedMs) : created);
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Valida contra as restrições do CourseRequest e da entidade Course
+     */
+    List<ValidationError> validate(CourseRequest request) {
+        if (request == null) {
+            return List.of(new ValidationError(null, null, "Item do lote não pode ser nulo"));
+        }
+        Set<ConstraintViolation<CourseRequest>> requestViolations = validator.validate(request);
+        if (!requestViolations.isEmpty()) {
+            return toErrors(requestViolations);
+        }
+        return toErrors(validator.validate(courseMapper.toEntity(request)));
+    }
+
+    /**
+     * Persiste um bloco de cursos já validados em uma única transação e publica um único evento para o bloco
+     * Um evento por curso faria o feed SSE, a versão do catálogo e os índices reagirem a cada linha
+     * flush + clear mantém o contexto de persistência pequeno entre blocos
+     *
+     * @return cursos persistidos, na mesma ordem da entrada
+     */
+    public List<Course> insertChunk(List<Course> courses) {
+        List<Course> saved = transactionTemplate.execute(status -> {
+            List<Course> persisted = repository.saveAll(courses);
+            entityManager.flush();
+            entityManager.clear();
+            return persisted;
+        });
+        eventPublisher.publishEvent(CoursesBulkChangedEvent.created(saved));
+        return saved;
+    }
+
+    private void persistChunk(List<Integer> indexes, List<Course> courses, CourseBatchItemResult[] results) {
+        List<Course> saved;
+        try {
+            saved = insertChunk(courses);
+        } catch (RuntimeException e) {
+            log.error("Falha ao persistir bloco de {} cursos: {}", courses.size(), e.getMessage());
+            indexes.forEach(index -> results[index] = CourseBatchItemResult.failed(index, "Falha ao persistir o curso"));
+            return;
+        }
+
+        for (int i = 0; i < saved.size(); i++) {
+            int index = indexes.get(i);
+            results[index] = CourseBatchItemResult.created(index, courseMapper.toResponse(saved.get(i)));
+        }
+    }
+
+    private static <T> List<ValidationError> toErrors(Set<ConstraintViolation<T>> violations) {
+        return violations.stream()
+                .map(violation -> new ValidationError(
+                        violation.getPropertyPath().toString(),
+                        violation.getInvalidValue(),
+                        violation.getMessage()))
+                .sorted(Comparator.comparing(ValidationError::getField))
+                .toList();
+    }
+}
@@ -0,0 +1,97 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CacheStatsResponse;
+import com.br.courses.dto.CourseResponse;
+import com.br.courses.mapper.CourseMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Cache read-through de CourseResponse por id, limitado por tamanho e TTL
+ * Misses concorrentes para o mesmo id executam uma única consulta (single-flight)
+ * A consulta roda fora do lock do mapa interno: só o future é registrado dentro dele,
+ * então uma virtual thread esperando o JDBC não fica presa (pinned) à carrier thread
+ */
+@Component
+public class CourseCache {
+
+    private final CourseService courseService;
+    private final CourseMapper courseMapper;
+    private final AsyncCache<Long, CourseResponse> cache;
+
+    public CourseCache(CourseService courseService,
+                       CourseMapper courseMapper,
+                       @Value("${app.cache.courses.max-size:10000}") long maxSize,
+                       @Value("${app.cache.courses.ttl:10m}") Duration ttl) {
+        this.courseService = courseService;
+        this.courseMapper = courseMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Retorna o curso do cache ou carrega do banco
+     * Lança ItemNotFoundException se o curso não existir (nada é cacheado nesse caso)
+     */
+    public CourseResponse get(Long id) {
+        CompletableFuture<CourseResponse> loading = new CompletableFuture<>();
+        CompletableFuture<CourseResponse> future = cache.get(id, (key, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(courseMapper.toResponse(courseService.find(id)));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Retorna o curso somente se já estiver no cache, sem acessar o banco
+     */
+    public CourseResponse getIfPresent(Long id) {
+        CompletableFuture<CourseResponse> future = cache.getIfPresent(id);
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    /**
+     * Invalida somente a entrada do curso alterado ou removido
+     */
+    @Order(CatalogVersion.DERIVED_STATE_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.type() != CourseChangedEvent.Type.CREATED) {
+            cache.synchronous().invalidate(event.courseId());
+        }
+    }
+
+    @Order(CatalogVersion.DERIVED_STATE_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesBulkChanged(CoursesBulkChangedEvent event) {
+        if (event.type() != CoursesBulkChangedEvent.Type.CREATED) {
+            cache.synchronous().invalidateAll(event.courseIds());
+        }
+    }
+
+    public CacheStatsResponse stats() {
+        return CacheStatsResponse.of(cache.synchronous().estimatedSize(), cache.synchronous().stats());
+    }
+}
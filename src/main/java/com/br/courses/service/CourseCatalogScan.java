@@ -0,0 +1,45 @@
+package com.br.courses.service;
+
+import com.br.courses.model.Course;
+import com.br.courses.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Percorre todo o catálogo em ordem de id para reconstruir índices em memória
+ * Paginação por keyset (id maior que o último lido), sem OFFSET, em páginas de 1000 cursos
+ */
+@Slf4j
+final class CourseCatalogScan {
+
+    static final int PAGE_SIZE = 1000;
+
+    private CourseCatalogScan() {
+    }
+
+    /**
+     * Aplica a ação a cada curso e registra no log o tamanho final e o tempo total
+     *
+     * @param index nome do índice no log
+     * @param size tamanho do índice ao final da reconstrução
+     */
+    static void rebuild(CourseRepository repository, Consumer<Course> action, String index, IntSupplier size) {
+        long start = System.nanoTime();
+        long lastId = 0L;
+        List<Course> page;
+        do {
+            page = repository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(PAGE_SIZE));
+            page.forEach(action);
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        log.info("{} construído com {} entradas em {} ms",
+                index, size.getAsInt(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
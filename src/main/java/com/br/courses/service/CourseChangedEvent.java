@@ -0,0 +1,43 @@
+package com.br.courses.service;
+
+import com.br.courses.model.Course;
+
+/**
+ * Evento publicado pelo CourseService a cada mutação de curso
+ * Usado para manter estruturas derivadas (índices, agregados, caches) atualizadas
+ *
+ * @param type     tipo da mutação
+ * @param courseId id do curso afetado
+ * @param course   estado atual do curso, ou null quando removido
+ * @param previous cópia do estado anterior à mutação, ou null quando criado
+ * @param changeVersion versão de mudança gravada pela mutação (a do registro de remoção, quando removido)
+ */
+public record CourseChangedEvent(
+    Type type,
+    Long courseId,
+    Course course,
+    Course previous,
+    long changeVersion
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static CourseChangedEvent created(Course course) {
+        return new CourseChangedEvent(Type.CREATED, course.getId(), course, null, versionOf(course));
+    }
+
+    public static CourseChangedEvent updated(Course previous, Course course) {
+        return new CourseChangedEvent(Type.UPDATED, course.getId(), course, previous, versionOf(course));
+    }
+
+    public static CourseChangedEvent deleted(Course previous, long changeVersion) {
+        return new CourseChangedEvent(Type.DELETED, previous.getId(), null, previous, changeVersion);
+    }
+
+    private static long versionOf(Course course) {
+        return course.getChangeVersion() == null ? 0 : course.getChangeVersion();
+    }
+}
@@ -0,0 +1,211 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CategoryFacetResponse;
+import com.br.courses.dto.CourseFacetsResponse;
+import com.br.courses.model.Course;
+import com.br.courses.repository.CategoryTotals;
+import com.br.courses.repository.ChangeVersionAllocator;
+import com.br.courses.repository.CourseChangeVersion;
+import com.br.courses.repository.CourseRepository;
+import com.br.courses.repository.CourseTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Agregado em memória com a quantidade de cursos e o total de horas por categoria
+ * Carregado do banco na inicialização e mantido pelos eventos do CourseService,
+ * evitando um GROUP BY a cada requisição
+ */
+@Component
+@Slf4j
+public class CourseFacetAggregate implements SmartInitializingSingleton {
+
+    private final CourseRepository repository;
+    private final CourseTombstoneRepository tombstoneRepository;
+    private final ChangeVersionAllocator changeVersions;
+    private final TransactionTemplate snapshotTransaction;
+
+    /** Substituído por inteiro a cada recarga; leitores nunca veem um mapa parcialmente carregado */
+    private volatile ConcurrentMap<String, Totals> totalsByCategory = new ConcurrentHashMap<>();
+
+    /** Mudanças já contadas pela última recarga; eventos delas chegam depois e são ignorados */
+    private volatile SnapshotVersions snapshotVersions = SnapshotVersions.NONE;
+
+    /**
+     * Eventos aplicam sob o lock de leitura (concorrentes entre si) e a recarga troca o mapa sob o de escrita,
+     * então nenhum evento é aplicado ao mapa antigo depois da consulta e perdido na troca
+     */
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private record Totals(long courses, long hours) {
+        Totals plus(long courses, long hours) {
+            return new Totals(this.courses + courses, this.hours + hours);
+        }
+    }
+
+    /**
+     * Versões de mudança que a consulta da recarga já enxergou
+     * Toda versão até a marca estável foi confirmada antes da consulta; acima dela, vale a versão
+     * vigente de cada curso lida no mesmo instante (mudanças do mesmo curso confirmam em ordem)
+     *
+     * @param watermark marca estável da alocação no início da recarga (-1 na carga inicial, sem escritas concorrentes)
+     * @param versionsById id do curso -> versão vigente na consulta, só para versões acima da marca
+     */
+    private record SnapshotVersions(long watermark, Map<Long, Long> versionsById) {
+        static final SnapshotVersions NONE = new SnapshotVersions(-1, Map.of());
+
+        boolean includes(CourseChangedEvent event) {
+            return includes(event.courseId(), event.changeVersion());
+        }
+
+        boolean includes(Long courseId, long changeVersion) {
+            return changeVersion <= watermark || changeVersion <= versionsById.getOrDefault(courseId, -1L);
+        }
+    }
+
+    public CourseFacetAggregate(CourseRepository repository,
+                                CourseTombstoneRepository tombstoneRepository,
+                                ChangeVersionAllocator changeVersions,
+                                PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.changeVersions = changeVersions;
+        // Transação própria mesmo chamada de um listener AFTER_COMMIT; REPEATABLE READ faz as leituras verem o mesmo instante
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Carga inicial, antes do servidor aceitar requisições: nenhuma mudança concorre com o GROUP BY
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        swap(repository.sumByCategory(), SnapshotVersions.NONE);
+    }
+
+    /**
+     * Recarrega o agregado com um único GROUP BY no banco, montando um mapa novo e trocando a referência
+     * Mudanças confirmadas antes da consulta já estão nela, mas seus eventos (AFTER_COMMIT) podem chegar
+     * depois da troca; junto ao GROUP BY são lidas as versões vigentes dos cursos alterados desde a
+     * marca estável, e eventos dessas versões (ou anteriores) são ignorados em vez de contados de novo
+     * A consulta roda com o lock de escrita: eventos que chegam durante ela esperam e são filtrados
+     */
+    public void rebuild() {
+        swapLock.writeLock().lock();
+        try {
+            long watermark = changeVersions.stableWatermark();
+            snapshotTransaction.executeWithoutResult(status -> {
+                List<CategoryTotals> rows = repository.sumByCategory();
+                Map<Long, Long> versionsById = new HashMap<>();
+                repository.findChangeVersionsAfter(watermark).forEach(row -> keepLatest(versionsById, row));
+                tombstoneRepository.findChangeVersionsAfter(watermark).forEach(row -> keepLatest(versionsById, row));
+                swap(rows, new SnapshotVersions(watermark, versionsById));
+            });
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    @Order(CatalogVersion.DERIVED_STATE_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            if (snapshotVersions.includes(event)) {
+                return;
+            }
+            if (event.previous() != null) {
+                apply(event.previous(), -1);
+            }
+            if (event.course() != null) {
+                apply(event.course(), 1);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Blocos de inserts trazem os cursos criados e são somados como criações individuais
+     * UPDATE e DELETE em massa não carregam o estado anterior de cada curso,
+     * então o agregado é recarregado com o GROUP BY
+     */
+    @Order(CatalogVersion.DERIVED_STATE_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesBulkChanged(CoursesBulkChangedEvent event) {
+        if (event.type() != CoursesBulkChangedEvent.Type.CREATED) {
+            rebuild();
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            SnapshotVersions versions = snapshotVersions;
+            for (Course course : event.courses()) {
+                if (!versions.includes(course.getId(), course.getChangeVersion() == null ? 0 : course.getChangeVersion())) {
+                    apply(course, 1);
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retorna os totais por categoria, da maior para a menor
+     */
+    public CourseFacetsResponse snapshot() {
+        List<CategoryFacetResponse> categories = totalsByCategory.entrySet().stream()
+                .map(entry -> new CategoryFacetResponse(entry.getKey(), entry.getValue().courses(), entry.getValue().hours()))
+                .sorted(Comparator.comparingLong(CategoryFacetResponse::courses).reversed()
+                        .thenComparing(CategoryFacetResponse::category))
+                .toList();
+
+        long totalCourses = categories.stream().mapToLong(CategoryFacetResponse::courses).sum();
+        long totalHours = categories.stream().mapToLong(CategoryFacetResponse::totalHours).sum();
+        return new CourseFacetsResponse(totalCourses, totalHours, categories);
+    }
+
+    private void swap(List<CategoryTotals> rows, SnapshotVersions versions) {
+        ConcurrentMap<String, Totals> rebuilt = new ConcurrentHashMap<>(Math.max(16, rows.size() * 2));
+        for (CategoryTotals row : rows) {
+            rebuilt.put(row.getCategory(), new Totals(row.getCourses(), row.getTotalHours()));
+        }
+        totalsByCategory = rebuilt;
+        snapshotVersions = versions;
+        log.info("Facetas de categoria carregadas: {} categorias", rows.size());
+    }
+
+    private static void keepLatest(Map<Long, Long> versionsById, CourseChangeVersion row) {
+        versionsById.merge(row.getCourseId(), row.getChangeVersion(), Math::max);
+    }
+
+    /**
+     * Soma (sign = 1) ou subtrai (sign = -1) o curso da sua categoria
+     * compute é atômico por chave, então escritores concorrentes não perdem atualizações
+     * Chamado com o lock de leitura, portanto sempre sobre o mapa vigente
+     */
+    private void apply(Course course, int sign) {
+        long hours = course.getDuration() == null ? 0 : course.getDuration();
+        totalsByCategory.compute(course.getCategory(), (category, totals) -> {
+            Totals updated = (totals == null ? new Totals(0, 0) : totals).plus(sign, sign * hours);
+            return updated.courses() <= 0 ? null : updated;
+        });
+    }
+}
@@ -0,0 +1,105 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CourseImportJobResponse;
+import com.br.courses.dto.CourseImportJobResponse.Status;
+import com.br.courses.dto.CourseImportRowError;
+import com.br.courses.exception.ValidationError;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado de uma importação de cursos
+ * Escrito pela thread da importação e lido pelas requisições de acompanhamento
+ */
+final class CourseImportJob {
+
+    private final UUID id;
+    private final String fileName;
+    private final int maxRecordedErrors;
+    private final Instant submittedAt = Instant.now();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<CourseImportRowError> errors = new ArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String failureMessage;
+
+    CourseImportJob(UUID id, String fileName, int maxRecordedErrors) {
+        this.id = id;
+        this.fileName = fileName;
+        this.maxRecordedErrors = maxRecordedErrors;
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    Instant finishedAt() {
+        return finishedAt;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        failureMessage = message;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void created(int count) {
+        created.addAndGet(count);
+    }
+
+    /**
+     * Conta a linha como rejeitada; somente os primeiros erros são guardados
+     */
+    void reject(long line, List<ValidationError> rowErrors) {
+        rejected.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxRecordedErrors) {
+                errors.add(new CourseImportRowError(line, rowErrors));
+            }
+        }
+    }
+
+    CourseImportJobResponse toResponse() {
+        List<CourseImportRowError> recorded;
+        synchronized (errors) {
+            recorded = List.copyOf(errors);
+        }
+        long rejectedRows = rejected.get();
+        return new CourseImportJobResponse(
+                id,
+                fileName,
+                status,
+                rowsRead.get(),
+                created.get(),
+                rejectedRows,
+                submittedAt,
+                startedAt,
+                finishedAt,
+                recorded,
+                rejectedRows > recorded.size(),
+                failureMessage);
+    }
+}
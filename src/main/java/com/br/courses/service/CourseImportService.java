@@ -0,0 +1,268 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CourseImportJobResponse;
+import com.br.courses.dto.CourseRequest;
+import com.br.courses.exception.BadRequestException;
+import com.br.courses.exception.ItemNotFoundException;
+import com.br.courses.exception.ServiceUnavailableException;
+import com.br.courses.exception.ValidationError;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.model.Course;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Importação assíncrona de cursos a partir de arquivos CSV
+ * O upload é gravado em arquivo temporário e processado por um pool dedicado e limitado;
+ * o arquivo é lido registro a registro e gravado em blocos pelo CourseBatchService,
+ * então a memória usada não depende do tamanho do arquivo
+ * Cada bloco gera um único evento em massa: a versão do catálogo muda uma vez por bloco, não por linha,
+ * e o feed SSE recebe um reset por bloco em vez de uma mensagem por curso
+ */
+@Service
+@Slf4j
+public class CourseImportService {
+
+    static final List<String> COLUMNS = List.of("title", "description", "category", "duration");
+    static final int MAX_RECORDED_ERRORS = 1000;
+
+    private final CourseBatchService batchService;
+    private final CourseMapper courseMapper;
+    private final ExecutorService executor;
+    private final Duration retention;
+
+    private final Map<UUID, CourseImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CourseImportService(CourseBatchService batchService,
+                               CourseMapper courseMapper,
+                               @Value("${app.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                               @Value("${app.import.queue-capacity:10}") int queueCapacity,
+                               @Value("${app.import.retention:1h}") Duration retention) {
+        this(batchService, courseMapper, newExecutor(maxConcurrentJobs, queueCapacity), retention);
+    }
+
+    CourseImportService(CourseBatchService batchService, CourseMapper courseMapper,
+                        ExecutorService executor, Duration retention) {
+        this.batchService = batchService;
+        this.courseMapper = courseMapper;
+        this.executor = executor;
+        this.retention = retention;
+    }
+
+    /**
+     * Registra a importação e a enfileira no pool, retornando imediatamente
+     * Lança ServiceUnavailableException se a fila de importações estiver cheia
+     */
+    public CourseImportJobResponse start(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new BadRequestException("Arquivo CSV vazio");
+        }
+        removeExpiredJobs();
+
+        Path temp = copyToTempFile(file);
+        CourseImportJob job = new CourseImportJob(UUID.randomUUID(), file.getOriginalFilename(), MAX_RECORDED_ERRORS);
+        jobs.put(job.id(), job);
+        try {
+            executor.execute(() -> run(job, temp));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id());
+            deleteQuietly(temp);
+            throw new ServiceUnavailableException("Muitas importações em andamento, tente novamente mais tarde");
+        }
+
+        log.info("Importação {} enfileirada: {} ({} bytes)", job.id(), file.getOriginalFilename(), file.getSize());
+        return job.toResponse();
+    }
+
+    public CourseImportJobResponse find(UUID jobId) {
+        CourseImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ItemNotFoundException("Importação não encontrada com id: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(CourseImportJob job, Path file) {
+        job.start();
+        long start = System.nanoTime();
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            importRows(job, reader);
+            job.complete();
+        } catch (IOException | RuntimeException e) {
+            log.error("Importação {} falhou: {}", job.id(), e.getMessage());
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+
+        CourseImportJobResponse progress = job.toResponse();
+        log.info("Importação {} finalizada ({}): {} linhas, {} criados, {} rejeitados em {} ms",
+                job.id(), progress.status(), progress.rowsRead(), progress.created(), progress.rejected(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Lê, valida e grava os registros em blocos de CHUNK_SIZE
+     * A leitura só avança quando o bloco anterior foi gravado, o que limita
+     * a quantidade de cursos em memória ao tamanho de um bloco
+     */
+    private void importRows(CourseImportJob job, CsvReader reader) throws IOException {
+        Map<String, Integer> columns = header(reader.next());
+
+        List<Long> lines = new ArrayList<>(CourseBatchService.CHUNK_SIZE);
+        List<Course> chunk = new ArrayList<>(CourseBatchService.CHUNK_SIZE);
+        List<String> row;
+        while ((row = reader.next()) != null) {
+            if (row.size() == 1 && row.get(0).isBlank()) {
+                continue;
+            }
+            long line = reader.recordLine();
+            job.rowRead();
+
+            List<ValidationError> errors = new ArrayList<>();
+            CourseRequest request = toRequest(row, columns, errors);
+            if (errors.isEmpty()) {
+                errors.addAll(batchService.validate(request));
+            }
+            if (!errors.isEmpty()) {
+                job.reject(line, errors);
+                continue;
+            }
+
+            lines.add(line);
+            chunk.add(courseMapper.toEntity(request));
+            if (chunk.size() == CourseBatchService.CHUNK_SIZE) {
+                writeChunk(job, lines, chunk);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(job, lines, chunk);
+        }
+    }
+
+    private void writeChunk(CourseImportJob job, List<Long> lines, List<Course> chunk) {
+        try {
+            job.created(batchService.insertChunk(chunk).size());
+        } catch (RuntimeException e) {
+            log.error("Importação {}: falha ao persistir bloco de {} cursos: {}", job.id(), chunk.size(), e.getMessage());
+            List<ValidationError> failure = List.of(new ValidationError(null, null, "Falha ao persistir o curso"));
+            lines.forEach(line -> job.reject(line, failure));
+        }
+        lines.clear();
+        chunk.clear();
+    }
+
+    /**
+     * Mapeia o nome de cada coluna esperada para sua posição no arquivo
+     */
+    private static Map<String, Integer> header(List<String> header) throws IOException {
+        if (header == null) {
+            throw new IOException("Arquivo CSV sem cabeçalho");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IOException("Cabeçalho do CSV sem as colunas: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private static CourseRequest toRequest(List<String> row, Map<String, Integer> columns, List<ValidationError> errors) {
+        if (row.size() < columns.size()) {
+            errors.add(new ValidationError(null, row.size(),
+                    "Linha com " + row.size() + " colunas, esperado " + columns.size()));
+            return null;
+        }
+
+        String duration = value(row, columns, "duration");
+        Integer parsedDuration = null;
+        if (duration != null) {
+            try {
+                parsedDuration = Integer.valueOf(duration);
+            } catch (NumberFormatException e) {
+                errors.add(new ValidationError("duration", duration, "Duração deve ser um número inteiro"));
+            }
+        }
+        return new CourseRequest(
+                value(row, columns, "title"),
+                value(row, columns, "description"),
+                value(row, columns, "category"),
+                parsedDuration);
+    }
+
+    private static String value(List<String> row, Map<String, Integer> columns, String column) {
+        String value = row.get(columns.get(column)).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Remove do registro as importações finalizadas há mais tempo que a retenção
+     */
+    private void removeExpiredJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt() != null && job.finishedAt().isBefore(cutoff));
+    }
+
+    private static Path copyToTempFile(MultipartFile file) {
+        try {
+            Path temp = Files.createTempFile("course-import-", ".csv");
+            file.transferTo(temp);
+            return temp;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o arquivo de importação", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o arquivo temporário {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static ExecutorService newExecutor(int maxConcurrentJobs, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "course-import-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -0,0 +1,702 @@
+package com.br.courses.service;
+
+import com.br.courses.model.Course;
+import com.br.courses.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória sobre título e descrição dos cursos
+ * Ranqueia com BM25, ignora acentos e tolera um erro de digitação por termo
+ * Cada curso ocupa um slot denso; as ocorrências de cada termo ficam em arrays primitivos de slots
+ * e frequências, sem boxing nem um mapa por termo
+ * É construído na inicialização e atualizado incrementalmente pelos eventos do CourseService
+ * Limitação: a poda só corta quando há termos seletivos na consulta; um termo presente em boa parte
+ * do catálogo (ex.: um tópico em 1/8 de 1M de cursos) pontua toda a sua lista de ocorrências e passa de 1 ms
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseSearchIndex implements SmartInitializingSingleton {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 2;
+    private static final double FUZZY_WEIGHT = 0.5;
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    private final CourseRepository repository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** termo -> id do termo, posição em postingsByTerm */
+    private final Map<String, Integer> termIds = new HashMap<>();
+
+    /** id do termo -> ocorrências; null para ids liberados */
+    private final List<Postings> postingsByTerm = new ArrayList<>();
+
+    /** id do termo -> termo, necessário para tirá-lo do vocabulário */
+    private final List<String> termsById = new ArrayList<>();
+
+    private final IntStack freeTermIds = new IntStack();
+
+    /** variante com uma letra removida -> termos do vocabulário que a geram */
+    private final Map<String, Set<String>> deletions = new HashMap<>();
+
+    /** id do curso -> termos indexados, necessário para remoção incremental */
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    /** slot denso -> id do curso, tamanho e documento; slots de cursos removidos são reaproveitados */
+    private long[] courseIds = new long[16];
+    private int[] lengths = new int[16];
+    private Document[] documentsBySlot = new Document[16];
+    private int slotCount;
+    private final IntStack freeSlots = new IntStack();
+
+    /**
+     * Acumuladores de score reaproveitados entre buscas; cada busca usa um com exclusividade
+     * O pool é limitado: acima dele, o acumulador de uma busca concorrente é descartado ao final
+     */
+    private final Queue<Scratch> scratchPool = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+
+    private long totalLength;
+
+    public record SearchHit(Long courseId, double score) {
+    }
+
+    /**
+     * Termo da consulta já resolvido no vocabulário
+     *
+     * @param boost      peso do termo (exato ou aproximado) * idf * (K1 + 1)
+     * @param upperBound maior contribuição possível do termo a um curso
+     */
+    private record QueryTerm(int termId, Postings postings, double boost, double upperBound) {
+    }
+
+    /**
+     * Termos do documento e a posição de cada um na lista de ocorrências do termo
+     * A posição muda quando a remoção de outro curso move a última ocorrência para o lugar vago
+     */
+    private static final class Document {
+        final int slot;
+        final int[] terms;
+        final int[] positions;
+        final int length;
+
+        Document(int slot, int[] terms, int[] positions, int length) {
+            this.slot = slot;
+            this.terms = terms;
+            this.positions = positions;
+            this.length = length;
+        }
+
+        int indexOf(int termId) {
+            for (int i = 0; i < terms.length; i++) {
+                if (terms[i] == termId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void moved(int termId, int position) {
+            positions[indexOf(termId)] = position;
+        }
+    }
+
+    /**
+     * Ocorrências de um termo em arrays primitivos paralelos (slot do documento e frequência)
+     * A remoção troca a ocorrência pela última, então a ordem não é preservada
+     */
+    private static final class Postings {
+        int[] slots = new int[4];
+        int[] frequencies = new int[4];
+        int size;
+
+        /** maior frequência já vista; não diminui em remoções, então continua um limite superior válido */
+        int maxFrequency;
+
+        int add(int slot, int frequency) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            slots[size] = slot;
+            frequencies[size] = frequency;
+            maxFrequency = Math.max(maxFrequency, frequency);
+            return size++;
+        }
+
+        /**
+         * @return o slot movido para a posição removida, ou -1 se a removida era a última
+         */
+        int removeAt(int position) {
+            int last = --size;
+            if (position == last) {
+                return -1;
+            }
+            slots[position] = slots[last];
+            frequencies[position] = frequencies[last];
+            return slots[position];
+        }
+    }
+
+    /**
+     * Score acumulado por slot e a lista dos slots tocados, para zerar só eles ao final da busca
+     */
+    private static final class Scratch {
+        double[] scores = new double[0];
+        int[] touched = new int[0];
+
+        void ensureCapacity(int capacity) {
+            if (scores.length < capacity) {
+                scores = new double[capacity];
+                touched = new int[capacity];
+            }
+        }
+    }
+
+    private static final class IntStack {
+        private int[] values = new int[16];
+        private int size;
+
+        void push(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        /**
+         * @return o último valor empilhado, ou -1 se a pilha estiver vazia
+         */
+        int pop() {
+            return size == 0 ? -1 : values[--size];
+        }
+    }
+
+    /**
+     * Constrói o índice a partir do banco antes do servidor web aceitar requisições
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        CourseCatalogScan.rebuild(repository, this::index, "Índice de busca", this::size);
+    }
+
+    @Order(CatalogVersion.DERIVED_STATE_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> index(event.course());
+            case DELETED -> remove(event.courseId());
+        }
+    }
+
+    /**
+     * Updates em massa só alteram categoria e duração, que não são indexadas
+     */
+    @Order(CatalogVersion.DERIVED_STATE_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesBulkChanged(CoursesBulkChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> event.courses().forEach(this::index);
+            case DELETED -> event.courseIds().forEach(this::remove);
+            case UPDATED -> { }
+        }
+    }
+
+    /**
+     * Indexa (ou reindexa) um curso
+     */
+    public void index(Course course) {
+        Map<String, Integer> terms = new HashMap<>();
+        TextNormalizer.tokenize(course.getTitle()).forEach(term -> terms.merge(term, TITLE_BOOST, Integer::sum));
+        TextNormalizer.tokenize(course.getDescription()).forEach(term -> terms.merge(term, 1, Integer::sum));
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(course.getId());
+            int slot = allocateSlot();
+            int[] documentTerms = new int[terms.size()];
+            int[] positions = new int[terms.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+                int termId = termIds.computeIfAbsent(entry.getKey(), this::addToVocabulary);
+                documentTerms[i] = termId;
+                positions[i] = postingsByTerm.get(termId).add(slot, entry.getValue());
+                i++;
+            }
+            Document document = new Document(slot, documentTerms, positions, length);
+            courseIds[slot] = course.getId();
+            lengths[slot] = length;
+            documentsBySlot[slot] = document;
+            documents.put(course.getId(), document);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um curso do índice
+     */
+    public void remove(Long courseId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(courseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca os cursos mais relevantes para a consulta
+     * Os scores são acumulados em um array denso por slot, termo a termo, do mais raro ao mais comum
+     * Poda MaxScore: quando o k-ésimo score parcial supera o máximo que os termos restantes somariam,
+     * cursos ainda não tocados não entram no top-k e os termos restantes só pontuam os candidatos
+     * Os top-k saem de um heap primitivo que descarta sem alocar quem não supera o pior mantido
+     *
+     * @param query texto livre
+     * @param limit quantidade máxima de resultados
+     * @return resultados ordenados por relevância (maior score primeiro)
+     */
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(TextNormalizer.tokenize(query));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double lengthScale = B * documentCount / totalLength;
+
+            Scratch scratch = borrowScratch();
+            double[] scores = scratch.scores;
+            int[] touched = scratch.touched;
+            int touchedCount = 0;
+            List<QueryTerm> queryTerms = queryTerms(tokens, documentCount);
+            // remaining[t]: maior score que um curso ainda não tocado pode somar a partir do termo t
+            double[] remaining = new double[queryTerms.size() + 1];
+            for (int t = queryTerms.size() - 1; t >= 0; t--) {
+                remaining[t] = remaining[t + 1] + queryTerms.get(t).upperBound();
+            }
+            try {
+                boolean candidatesOnly = false;
+                for (int t = 0; t < queryTerms.size(); t++) {
+                    QueryTerm term = queryTerms.get(t);
+                    if (!candidatesOnly && t > 0 && touchedCount >= limit) {
+                        double threshold = kthScore(scores, touched, touchedCount, limit);
+                        if (remaining[t] < threshold) {
+                            // Nenhum curso novo alcança o top-k: segue só com os tocados que ainda podem alcançá-lo
+                            touchedCount = retainViable(scores, touched, touchedCount, threshold - remaining[t]);
+                            candidatesOnly = true;
+                        }
+                    }
+                    if (candidatesOnly) {
+                        touchedCount = scoreCandidates(term, scores, touched, touchedCount, lengthScale);
+                    } else {
+                        touchedCount = scorePostings(term, scores, touched, touchedCount, lengthScale);
+                    }
+                }
+                return topHits(scores, touched, touchedCount, limit);
+            } finally {
+                for (int i = 0; i < touchedCount; i++) {
+                    scores[touched[i]] = 0;
+                }
+                scratchPool.offer(scratch);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Termos do vocabulário que casam com a consulta, do maior para o menor score possível
+     * Um termo alcançado por mais de um token (exato por um, aproximado por outro) entra uma vez,
+     * com o maior peso: senão seria pontuado duas vezes e somado duas vezes no limite da poda
+     * Processar primeiro os termos raros (idf alto) eleva cedo o corte do top-k
+     */
+    private List<QueryTerm> queryTerms(Set<String> tokens, int documentCount) {
+        Map<String, Double> matches = new LinkedHashMap<>();
+        for (String token : tokens) {
+            expand(token).forEach((term, weight) -> matches.merge(term, weight, Math::max));
+        }
+        List<QueryTerm> queryTerms = new ArrayList<>(matches.size());
+        for (Map.Entry<String, Double> match : matches.entrySet()) {
+            int termId = termIds.get(match.getKey());
+            Postings postings = postingsByTerm.get(termId);
+            double idf = Math.log(1 + (documentCount - postings.size + 0.5) / (postings.size + 0.5));
+            double boost = match.getValue() * idf * (K1 + 1);
+            // frequency / norm cresce com a frequência e é máximo com tamanho zero
+            double upperBound = boost * postings.maxFrequency / (postings.maxFrequency + K1 * (1 - B));
+            queryTerms.add(new QueryTerm(termId, postings, boost, upperBound));
+        }
+        queryTerms.sort(Comparator.comparingDouble(QueryTerm::upperBound).reversed());
+        return queryTerms;
+    }
+
+    /**
+     * Soma o termo a todos os cursos da lista de ocorrências
+     *
+     * @return nova quantidade de slots tocados
+     */
+    private int scorePostings(QueryTerm term, double[] scores, int[] touched, int touchedCount, double lengthScale) {
+        int[] slots = term.postings().slots;
+        int[] frequencies = term.postings().frequencies;
+        for (int i = 0; i < term.postings().size; i++) {
+            int slot = slots[i];
+            int frequency = frequencies[i];
+            // Toda contribuição é positiva: score zero indica slot ainda não tocado nesta busca
+            if (scores[slot] == 0) {
+                touched[touchedCount++] = slot;
+            }
+            scores[slot] += term.boost() * frequency / (frequency + K1 * (1 - B + lengthScale * lengths[slot]));
+        }
+        return touchedCount;
+    }
+
+    /**
+     * Soma o termo só aos candidatos já tocados, consultando a frequência pelo documento
+     */
+    private int scoreCandidates(QueryTerm term, double[] scores, int[] touched, int touchedCount, double lengthScale) {
+        for (int i = 0; i < touchedCount; i++) {
+            int slot = touched[i];
+            Document document = documentsBySlot[slot];
+            int index = document.indexOf(term.termId());
+            if (index >= 0) {
+                int frequency = term.postings().frequencies[document.positions[index]];
+                scores[slot] += term.boost() * frequency / (frequency + K1 * (1 - B + lengthScale * lengths[slot]));
+            }
+        }
+        return touchedCount;
+    }
+
+    /**
+     * Mantém na lista de tocados só os slots com score parcial de pelo menos minimum; zera os demais
+     */
+    private static int retainViable(double[] scores, int[] touched, int touchedCount, double minimum) {
+        int kept = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int slot = touched[i];
+            if (scores[slot] >= minimum) {
+                touched[kept++] = slot;
+            } else {
+                scores[slot] = 0;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * k-ésimo maior score parcial entre os tocados (min-heap de k scores)
+     */
+    private static double kthScore(double[] scores, int[] touched, int touchedCount, int k) {
+        double[] heap = new double[k];
+        int size = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            double score = scores[touched[i]];
+            if (size < k) {
+                int index = size++;
+                while (index > 0 && heap[(index - 1) >>> 1] > score) {
+                    heap[index] = heap[(index - 1) >>> 1];
+                    index = (index - 1) >>> 1;
+                }
+                heap[index] = score;
+            } else if (score > heap[0]) {
+                int index = 0;
+                while (2 * index + 1 < size) {
+                    int child = 2 * index + 1;
+                    if (child + 1 < size && heap[child + 1] < heap[child]) {
+                        child++;
+                    }
+                    if (heap[child] >= score) {
+                        break;
+                    }
+                    heap[index] = heap[child];
+                    index = child;
+                }
+                heap[index] = score;
+            }
+        }
+        return heap[0];
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long courseId) {
+        Document document = documents.remove(courseId);
+        if (document == null) {
+            return;
+        }
+        totalLength -= document.length;
+        for (int i = 0; i < document.terms.length; i++) {
+            int termId = document.terms[i];
+            Postings postings = postingsByTerm.get(termId);
+            int moved = postings.removeAt(document.positions[i]);
+            if (moved >= 0) {
+                documentsBySlot[moved].moved(termId, document.positions[i]);
+            }
+            if (postings.size == 0) {
+                removeFromVocabulary(termId);
+            }
+        }
+        documentsBySlot[document.slot] = null;
+        freeSlots.push(document.slot);
+    }
+
+    private int allocateSlot() {
+        int slot = freeSlots.pop();
+        if (slot >= 0) {
+            return slot;
+        }
+        if (slotCount == courseIds.length) {
+            int capacity = slotCount * 2;
+            courseIds = Arrays.copyOf(courseIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            documentsBySlot = Arrays.copyOf(documentsBySlot, capacity);
+        }
+        return slotCount++;
+    }
+
+    /**
+     * Acumulador exclusivo da busca, com uma posição por slot
+     * Chamado com o lock de leitura, enquanto a quantidade de slots não muda
+     */
+    private Scratch borrowScratch() {
+        Scratch scratch = scratchPool.poll();
+        if (scratch == null) {
+            scratch = new Scratch();
+        }
+        scratch.ensureCapacity(slotCount);
+        return scratch;
+    }
+
+    /**
+     * Termos do vocabulário que casam com o token: o próprio termo (peso 1)
+     * e termos a uma edição de distância (peso reduzido)
+     */
+    private Map<String, Double> expand(String token) {
+        Map<String, Double> terms = new LinkedHashMap<>();
+        if (termIds.containsKey(token)) {
+            terms.put(token, 1.0);
+        }
+        if (token.length() < MIN_FUZZY_LENGTH) {
+            return terms;
+        }
+
+        Set<String> candidates = new HashSet<>(deletions.getOrDefault(token, Set.of()));
+        for (String variant : variants(token)) {
+            if (termIds.containsKey(variant)) {
+                candidates.add(variant);
+            }
+            candidates.addAll(deletions.getOrDefault(variant, Set.of()));
+        }
+        for (String candidate : candidates) {
+            if (isOneEditAway(token, candidate)) {
+                terms.putIfAbsent(candidate, FUZZY_WEIGHT);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Registra as variantes do termo e reserva um id para ele
+     */
+    private int addToVocabulary(String term) {
+        if (term.length() >= MIN_FUZZY_LENGTH - 1) {
+            for (String variant : variants(term)) {
+                deletions.computeIfAbsent(variant, key -> new HashSet<>()).add(term);
+            }
+        }
+        int termId = freeTermIds.pop();
+        if (termId < 0) {
+            termId = postingsByTerm.size();
+            postingsByTerm.add(new Postings());
+            termsById.add(term);
+        } else {
+            postingsByTerm.set(termId, new Postings());
+            termsById.set(termId, term);
+        }
+        return termId;
+    }
+
+    private void removeFromVocabulary(int termId) {
+        String term = termsById.get(termId);
+        termIds.remove(term);
+        postingsByTerm.set(termId, null);
+        termsById.set(termId, null);
+        freeTermIds.push(termId);
+        if (term.length() < MIN_FUZZY_LENGTH - 1) {
+            return;
+        }
+        for (String variant : variants(term)) {
+            Set<String> terms = deletions.get(variant);
+            if (terms != null) {
+                terms.remove(term);
+                if (terms.isEmpty()) {
+                    deletions.remove(variant);
+                }
+            }
+        }
+    }
+
+    /**
+     * Seleciona os top-k entre os slots tocados com um min-heap de slots em array
+     * O topo é o pior resultado mantido; candidato que não o supera é descartado sem alocação
+     * Empates ficam com o menor id de curso
+     */
+    private List<SearchHit> topHits(double[] scores, int[] touched, int touchedCount, int limit) {
+        int capacity = Math.min(limit, touchedCount);
+        int[] heap = new int[capacity];
+        int size = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int slot = touched[i];
+            if (size < capacity) {
+                heap[size] = slot;
+                siftUp(heap, size++, scores);
+            } else if (ranksAbove(slot, heap[0], scores)) {
+                heap[0] = slot;
+                siftDown(heap, size, scores);
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            hits.add(new SearchHit(courseIds[heap[i]], scores[heap[i]]));
+        }
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                .thenComparing(SearchHit::courseId));
+        return hits;
+    }
+
+    private boolean ranksAbove(int slot, int other, double[] scores) {
+        return scores[slot] > scores[other]
+                || (scores[slot] == scores[other] && courseIds[slot] < courseIds[other]);
+    }
+
+    /**
+     * Sobe o slot enquanto o pai ranqueia acima dele (o pior fica na raiz)
+     */
+    private void siftUp(int[] heap, int index, double[] scores) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksAbove(heap[parent], slot, scores)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = slot;
+    }
+
+    private void siftDown(int[] heap, int size, double[] scores) {
+        int slot = heap[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && ranksAbove(heap[child], heap[child + 1], scores)) {
+                child++;
+            }
+            if (!ranksAbove(slot, heap[child], scores)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = slot;
+    }
+
+    /**
+     * Todas as variantes do termo com exatamente uma letra removida
+     */
+    private static List<String> variants(String term) {
+        List<String> variants = new ArrayList<>(term.length());
+        for (int i = 0; i < term.length(); i++) {
+            variants.add(term.substring(0, i) + term.substring(i + 1));
+        }
+        return variants;
+    }
+
+    /**
+     * Verifica se os termos diferem por no máximo uma inserção, remoção,
+     * substituição ou transposição de letras adjacentes
+     */
+    static boolean isOneEditAway(String a, String b) {
+        int lengthA = a.length();
+        int lengthB = b.length();
+        if (Math.abs(lengthA - lengthB) > 1) {
+            return false;
+        }
+
+        if (lengthA == lengthB) {
+            int first = -1;
+            int second = -1;
+            for (int i = 0; i < lengthA; i++) {
+                if (a.charAt(i) != b.charAt(i)) {
+                    if (first < 0) {
+                        first = i;
+                    } else if (second < 0) {
+                        second = i;
+                    } else {
+                        return false;
+                    }
+                }
+            }
+            if (second < 0) {
+                return true;
+            }
+            return second == first + 1
+                    && a.charAt(first) == b.charAt(second)
+                    && a.charAt(second) == b.charAt(first);
+        }
+
+        String shorter = lengthA < lengthB ? a : b;
+        String longer = lengthA < lengthB ? b : a;
+        int i = 0;
+        int j = 0;
+        boolean skipped = false;
+        while (i < shorter.length() && j < longer.length()) {
+            if (shorter.charAt(i) == longer.charAt(j)) {
+                i++;
+                j++;
+            } else if (skipped) {
+                return false;
+            } else {
+                skipped = true;
+                j++;
+            }
+        }
+        return true;
+    }
+}
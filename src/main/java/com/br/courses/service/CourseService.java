@@ -1,57 +1,292 @@
 package com.br.courses.service;
 
+import com.br.courses.dto.CourseBulkDeleteRequest;
+import com.br.courses.dto.CourseBulkUpdateRequest;
+import com.br.courses.dto.CourseFilter;
 import com.br.courses.dto.CourseRequest;
+import com.br.courses.dto.CourseSummaryResponse;
+import com.br.courses.exception.BadRequestException;
 import com.br.courses.exception.ItemNotFoundException;
 import com.br.courses.model.Course;
+import com.br.courses.repository.ChangeVersionAllocator;
 import com.br.courses.repository.CourseRepository;
+import com.br.courses.repository.CourseTombstoneRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CourseService {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "title", "category", "duration");
+
     private final CourseRepository repository;
+    private final CourseTombstoneRepository tombstoneRepository;
+    private final ChangeVersionAllocator changeVersions;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CourseSearchIndex searchIndex;
 
     public List<Course> findAll() {
         log.info("Listando cursos");
         return repository.findAll();
     }
 
+    public List<CourseSummaryResponse> findAllSummaries() {
+        log.info("Listando resumo dos cursos");
+        return repository.findAllSummaries();
+    }
+
+    /**
+     * Busca uma página de resumos de cursos por keyset, sem ler a descrição
+     */
+    public List<CourseSummaryResponse> findSummaryPage(Long afterId, int limit) {
+        log.info("Listando página de resumos de cursos após id: " + afterId);
+        return repository.findSummariesAfter(afterId == null ? 0L : afterId, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * Busca uma página de cursos ordenada por id, a partir do último id visto
+     * Usa keyset (id > afterId) para que o custo não dependa da profundidade
+     */
+    public List<Course> findPage(Long afterId, int limit) {
+        log.info("Listando página de cursos após id: " + afterId);
+        return repository.findByIdGreaterThanOrderByIdAsc(afterId == null ? 0L : afterId, Limit.of(limit));
+    }
+
+    /**
+     * Filtra cursos por qualquer combinação de categoria, faixa de duração e trecho do título
+     * O id é sempre o último critério de ordenação para que as páginas sejam estáveis
+     */
+    public List<CourseSummaryResponse> filter(CourseFilter filter, Pageable pageable) {
+        log.info("Filtrando cursos por: " + filter + ", " + pageable);
+
+        if (filter.minDuration() != null && filter.maxDuration() != null && filter.minDuration() > filter.maxDuration()) {
+            throw new BadRequestException("Duração mínima maior que a duração máxima");
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new BadRequestException("Ordenação não suportada: " + order.getProperty());
+            }
+        }
+        Sort sort = pageable.getSort().getOrderFor("id") == null
+                ? pageable.getSort().and(Sort.by("id"))
+                : pageable.getSort();
+        return repository.findSummaries(filter, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort));
+    }
+
+    /**
+     * Percorre todo o catálogo entregando um curso por vez ao consumer
+     * Cada curso é removido do contexto de persistência após o uso,
+     * mantendo o consumo de memória constante independente do tamanho da tabela
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Course> consumer) {
+        log.info("Exportando catálogo de cursos");
+
+        try (Stream<Course> courses = repository.streamAll()) {
+            courses.forEach(course -> {
+                consumer.accept(course);
+                entityManager.detach(course);
+            });
+        }
+    }
+
+    /**
+     * Busca textual ranqueada sobre título e descrição
+     * A ordenação vem do índice em memória, o banco só carrega os cursos encontrados
+     */
+    public List<Course> search(String query, int limit) {
+        log.info("Buscando cursos por: " + query);
+
+        List<Long> ids = rankedIds(query, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return inRankOrder(ids, repository.findAllById(ids), Course::getId);
+    }
+
+    /**
+     * Mesma busca, mas carregando apenas os resumos (sem descrição)
+     */
+    public List<CourseSummaryResponse> searchSummaries(String query, int limit) {
+        log.info("Buscando resumo de cursos por: " + query);
+
+        List<Long> ids = rankedIds(query, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return inRankOrder(ids, repository.findSummariesByIdIn(ids), CourseSummaryResponse::id);
+    }
+
     public Course save(Course course) {
         log.info("Salvando curso: " + course.toString());
-        return repository.save(course);
+        Course saved = repository.save(course);
+        eventPublisher.publishEvent(CourseChangedEvent.created(saved));
+        return saved;
     }
 
+    /**
+     * Remove o curso e registra a remoção para a sincronização incremental, na mesma transação
+     * São três comandos: SELECT (404 e estado anterior para o evento), INSERT da remoção e DELETE
+     * Se outra remoção (individual ou em massa) registrou o curso antes, o INSERT não grava nada
+     * e o curso é tratado como já removido
+     */
+    @Transactional
     public void delete(Long id) {
         log.info("Deletando curso com id: " + id);
 
         var record = repository.findById(id)
                 .orElseThrow(() -> new ItemNotFoundException("Curso não encontrado com id: " + id));
 
-        repository.deleteById(record.getId());
+        long changeVersion = changeVersions.next();
+        if (tombstoneRepository.insertForCourses(List.of(record.getId()), changeVersion, Instant.now()) == 0) {
+            throw new ItemNotFoundException("Curso não encontrado com id: " + id);
+        }
+        // delete(entity) reaproveita a entidade carregada; deleteById faria um novo findById
+        repository.delete(record);
+        eventPublisher.publishEvent(CourseChangedEvent.deleted(record, changeVersion));
     }
 
+    /**
+     * Atualiza o curso com um SELECT e um UPDATE na mesma transação
+     * O SELECT é necessário: o estado anterior vai no evento e a nova versão na resposta
+     */
+    @Transactional
     public Course update(Long id, CourseRequest course) {
         log.info("Atualizando curso: " + course.toString());
 
         return repository.findById(id).map(record -> {
+            Course previous = snapshot(record);
             record.setTitle(course.title());
             record.setCategory(course.category());
             record.setDescription(course.description());
             record.setDuration(course.duration());
-            return repository.save(record);
+            Course saved = repository.save(record);
+            eventPublisher.publishEvent(CourseChangedEvent.updated(previous, saved));
+            return saved;
         }).orElseThrow(() -> new ItemNotFoundException("Curso não encontrado com id: " + id));
     }
 
+    /**
+     * Atualiza categoria e/ou duração de todos os cursos do filtro com um único UPDATE
+     * Os ids afetados são lidos depois do UPDATE pela versão de mudança que ele gravou, então o evento
+     * traz exatamente as linhas alteradas, mesmo que outra transação mude o conjunto do filtro no meio
+     *
+     * @return quantidade de cursos alterados
+     */
+    @Transactional
+    public int bulkUpdate(CourseBulkUpdateRequest request) {
+        log.info("Atualizando cursos em massa: " + request.toString());
+
+        requireCriteria(request.filter());
+        if (request.category() == null && request.duration() == null) {
+            throw new BadRequestException("Informe ao menos um campo para atualizar (category ou duration)");
+        }
+
+        long changeVersion = changeVersions.next();
+        int affected = repository.bulkUpdate(request.filter(), request.category(), request.duration(), changeVersion);
+        if (affected == 0) {
+            return 0;
+        }
+        List<Long> ids = repository.findIdsByChangeVersion(changeVersion);
+        eventPublisher.publishEvent(new CoursesBulkChangedEvent(CoursesBulkChangedEvent.Type.UPDATED, ids));
+        return affected;
+    }
+
+    /**
+     * Remove todos os cursos do filtro com um INSERT ... SELECT das remoções e um único DELETE
+     * As remoções são registradas pelo próprio filtro, sem trafegar a lista de ids; o DELETE alcança
+     * só os cursos registrados nesta operação, então nenhum curso sai do banco sem estar no evento
+     *
+     * @return quantidade de cursos removidos
+     */
+    @Transactional
+    public int bulkDelete(CourseBulkDeleteRequest request) {
+        log.info("Deletando cursos em massa: " + request.toString());
+
+        requireCriteria(request.filter());
+
+        long changeVersion = changeVersions.next();
+        if (tombstoneRepository.insertMatching(request.filter(), changeVersion, Instant.now()) == 0) {
+            return 0;
+        }
+        List<Long> ids = tombstoneRepository.findCourseIdsByChangeVersion(changeVersion);
+        int affected = repository.deleteTombstoned(changeVersion);
+        eventPublisher.publishEvent(new CoursesBulkChangedEvent(CoursesBulkChangedEvent.Type.DELETED, ids));
+        return affected;
+    }
+
+    /**
+     * Retorna a versão atual do curso sem carregar a entidade
+     */
+    public long findVersion(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new ItemNotFoundException("Curso não encontrado com id: " + id));
+    }
+
     public Course find(Long id) {
         log.info("Listando curso com id: " + id);
 
         return repository.findById(id)
                 .orElseThrow(() -> new ItemNotFoundException("Curso não encontrado com id: " + id));
     }
+
+    /**
+     * Um filtro vazio alcançaria o catálogo inteiro, o que nunca é intencional
+     */
+    private static void requireCriteria(CourseFilter filter) {
+        if (filter.isEmpty()) {
+            throw new BadRequestException("Informe ao menos um critério no filtro");
+        }
+    }
+
+    private List<Long> rankedIds(String query, int limit) {
+        return searchIndex.search(query, limit).stream()
+                .map(CourseSearchIndex.SearchHit::courseId)
+                .toList();
+    }
+
+    /**
+     * Reordena o resultado do banco na ordem de relevância do índice
+     */
+    private static <T> List<T> inRankOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> rowsById = rows.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Cópia do estado do curso antes da alteração, enviada junto ao evento
+     */
+    private static Course snapshot(Course course) {
+        Course copy = new Course();
+        copy.setId(course.getId());
+        copy.setTitle(course.getTitle());
+        copy.setDescription(course.getDescription());
+        copy.setCategory(course.getCategory());
+        copy.setDuration(course.getDuration());
+        return copy;
+    }
 }
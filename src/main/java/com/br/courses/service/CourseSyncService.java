@@ -0,0 +1,100 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CourseChangesResponse;
+import com.br.courses.dto.CourseResponse;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.mapper.CursorCodec;
+import com.br.courses.mapper.CursorCodec.ChangeToken;
+import com.br.courses.model.Course;
+import com.br.courses.model.CourseTombstone;
+import com.br.courses.repository.ChangeVersionAllocator;
+import com.br.courses.repository.CourseRepository;
+import com.br.courses.repository.CourseTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sincronização incremental do catálogo
+ * Percorre cursos alterados e remoções pela posição (versão de mudança, id), então o custo
+ * de cada chamada depende da quantidade de mudanças e não do tamanho do catálogo
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseSyncService implements SmartInitializingSingleton {
+
+    private final CourseRepository repository;
+    private final CourseTombstoneRepository tombstoneRepository;
+    private final ChangeVersionAllocator changeVersions;
+    private final CourseMapper courseMapper;
+    private final CursorCodec cursorCodec;
+
+    /**
+     * Continua a numeração de mudanças a partir do que já está no banco
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        changeVersions.advanceTo(Math.max(repository.findMaxChangeVersion(), tombstoneRepository.findMaxChangeVersion()));
+    }
+
+    /**
+     * Retorna até limit mudanças após o token; sem token, percorre o catálogo desde o início
+     * Só entrega mudanças até a marca estável, para que uma transação confirmada fora de ordem
+     * nunca fique para trás de um token já entregue
+     */
+    @Transactional(readOnly = true)
+    public CourseChangesResponse changesSince(String token, int limit) {
+        log.info("Listando mudanças de cursos desde: " + token);
+
+        ChangeToken since = token == null ? new ChangeToken(0, 0) : cursorCodec.decodeChangeToken(token);
+        long upTo = changeVersions.stableWatermark();
+
+        List<Course> changed = repository.findChangedAfter(
+                since.changeVersion(), since.courseId(), upTo, Limit.of(limit + 1));
+        List<CourseTombstone> deleted = tombstoneRepository.findDeletedAfter(
+                since.changeVersion(), since.courseId(), upTo, Limit.of(limit + 1));
+
+        // Intercala as duas sequências pela posição e corta a página em limit itens
+        List<CourseResponse> changedPage = new ArrayList<>();
+        List<Long> deletedPage = new ArrayList<>();
+        ChangeToken last = null;
+        int c = 0;
+        int d = 0;
+        while (changedPage.size() + deletedPage.size() < limit && (c < changed.size() || d < deleted.size())) {
+            ChangeToken nextChanged = c < changed.size() ? positionOf(changed.get(c)) : null;
+            ChangeToken nextDeleted = d < deleted.size() ? positionOf(deleted.get(d)) : null;
+            if (nextDeleted == null || (nextChanged != null && compare(nextChanged, nextDeleted) < 0)) {
+                changedPage.add(courseMapper.toResponse(changed.get(c++)));
+                last = nextChanged;
+            } else {
+                deletedPage.add(deleted.get(d++).getCourseId());
+                last = nextDeleted;
+            }
+        }
+
+        boolean hasMore = c < changed.size() || d < deleted.size();
+        // Sem mais mudanças: o próximo token é a marca estável, já que tudo até ela foi entregue
+        ChangeToken next = hasMore ? last : new ChangeToken(Math.max(upTo, since.changeVersion()), Long.MAX_VALUE);
+        return new CourseChangesResponse(changedPage, deletedPage, cursorCodec.encodeChangeToken(next), hasMore);
+    }
+
+    private static ChangeToken positionOf(Course course) {
+        return new ChangeToken(course.getChangeVersion(), course.getId());
+    }
+
+    private static ChangeToken positionOf(CourseTombstone tombstone) {
+        return new ChangeToken(tombstone.getChangeVersion(), tombstone.getCourseId());
+    }
+
+    private static int compare(ChangeToken a, ChangeToken b) {
+        int byVersion = Long.compare(a.changeVersion(), b.changeVersion());
+        return byVersion != 0 ? byVersion : Long.compare(a.courseId(), b.courseId());
+    }
+}
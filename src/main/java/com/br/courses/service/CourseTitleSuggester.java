@@ -0,0 +1,143 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CourseSuggestionResponse;
+import com.br.courses.model.Course;
+import com.br.courses.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Índice ordenado de títulos para autocomplete por prefixo
+ * A chave é o título sem acentos e em minúsculas seguido do id, então os títulos que
+ * começam com um prefixo formam um intervalo contíguo do mapa
+ * Leituras não usam lock: o ConcurrentSkipListMap permite percorrer o intervalo
+ * enquanto os eventos do CourseService inserem e removem títulos
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseTitleSuggester implements SmartInitializingSingleton {
+
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final CourseRepository repository;
+
+    /** título normalizado + separador + id -> sugestão */
+    private final ConcurrentNavigableMap<String, CourseSuggestionResponse> titles = new ConcurrentSkipListMap<>();
+
+    /** id do curso -> chave atual no índice, necessário para remoção incremental */
+    private final ConcurrentMap<Long, String> keysById = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        CourseCatalogScan.rebuild(repository, this::index, "Índice de autocomplete", this::size);
+    }
+
+    @Order(CatalogVersion.DERIVED_STATE_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> index(event.course());
+            case DELETED -> remove(event.courseId());
+        }
+    }
+
+    /**
+     * Updates em massa não alteram o título
+     */
+    @Order(CatalogVersion.DERIVED_STATE_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesBulkChanged(CoursesBulkChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> event.courses().forEach(this::index);
+            case DELETED -> event.courseIds().forEach(this::remove);
+            case UPDATED -> { }
+        }
+    }
+
+    /**
+     * Indexa (ou reindexa) o título de um curso
+     * compute serializa escritores do mesmo id, então a chave antiga nunca fica órfã
+     * A chave antiga sai antes da nova entrar; ainda assim uma leitura concorrente pode ver as duas
+     * (o iterador é fracamente consistente), por isso suggest também descarta ids repetidos
+     */
+    public void index(Course course) {
+        String key = normalize(course.getTitle()) + ID_SEPARATOR + course.getId();
+        CourseSuggestionResponse suggestion = new CourseSuggestionResponse(course.getId(), course.getTitle());
+        keysById.compute(course.getId(), (id, previousKey) -> {
+            if (previousKey != null && !previousKey.equals(key)) {
+                titles.remove(previousKey);
+            }
+            titles.put(key, suggestion);
+            return key;
+        });
+    }
+
+    /**
+     * Remove o título de um curso
+     */
+    public void remove(Long courseId) {
+        keysById.computeIfPresent(courseId, (id, key) -> {
+            titles.remove(key);
+            return null;
+        });
+    }
+
+    /**
+     * Títulos que começam com o prefixo, sem diferenciar acentos e maiúsculas
+     * Ordem alfabética do título normalizado (sem acentos, minúsculo), não por relevância;
+     * títulos iguais seguem a ordem textual do id ("10" antes de "9")
+     * Um curso renomeado durante a leitura aparece no máximo uma vez, com o título antigo ou o novo
+     *
+     * @param prefix texto digitado
+     * @param limit quantidade máxima de sugestões
+     */
+    public List<CourseSuggestionResponse> suggest(String prefix, int limit) {
+        String normalized = normalizePrefix(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        ConcurrentNavigableMap<String, CourseSuggestionResponse> range =
+                titles.subMap(normalized, true, normalized + Character.MAX_VALUE, false);
+        List<CourseSuggestionResponse> suggestions = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        for (CourseSuggestionResponse suggestion : range.values()) {
+            if (seen.add(suggestion.id())) {
+                suggestions.add(suggestion);
+            }
+            if (suggestions.size() == limit) {
+                break;
+            }
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+
+    private static String normalize(String title) {
+        return WHITESPACE.matcher(TextNormalizer.fold(title).strip()).replaceAll(" ");
+    }
+
+    /**
+     * Como o título, mas preserva um espaço final: "java " não deve sugerir "javascript"
+     */
+    private static String normalizePrefix(String prefix) {
+        return WHITESPACE.matcher(TextNormalizer.fold(prefix).stripLeading()).replaceAll(" ");
+    }
+}
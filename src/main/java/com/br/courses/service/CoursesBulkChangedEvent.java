@@ -0,0 +1,38 @@
+package com.br.courses.service;
+
+import com.br.courses.model.Course;
+
+import java.util.List;
+
+/**
+ * Evento publicado após uma operação em massa de cursos: UPDATE ou DELETE por filtro,
+ * ou um bloco de inserts da criação em lote e da importação
+ * Estruturas derivadas devem invalidar os ids afetados ou se recarregar
+ *
+ * @param type      tipo da operação
+ * @param courseIds ids dos cursos afetados
+ * @param courses   cursos criados, na ordem dos ids (vazio em UPDATED e DELETED)
+ */
+public record CoursesBulkChangedEvent(
+    Type type,
+    List<Long> courseIds,
+    List<Course> courses
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public CoursesBulkChangedEvent(Type type, List<Long> courseIds) {
+        this(type, courseIds, List.of());
+    }
+
+    /**
+     * Copia a lista: quem grava os blocos reaproveita a mesma lista para o próximo bloco
+     */
+    public static CoursesBulkChangedEvent created(List<Course> courses) {
+        List<Course> created = List.copyOf(courses);
+        return new CoursesBulkChangedEvent(Type.CREATED, created.stream().map(Course::getId).toList(), created);
+    }
+}
@@ -0,0 +1,131 @@
+package com.br.courses.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV (RFC 4180) que entrega um registro por vez
+ * Aceita campos entre aspas com vírgulas, aspas duplicadas e quebras de linha,
+ * e limita o tamanho do registro para que um arquivo malformado não esgote a memória
+ */
+final class CsvReader implements Closeable {
+
+    static final int MAX_RECORD_CHARS = 1_048_576;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    private long line = 1;
+    private long recordLine;
+    private boolean firstChar = true;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Lê o próximo registro
+     *
+     * @return campos do registro ou null no fim do arquivo
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (c < 0) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int recordChars = 0;
+        while (true) {
+            if (c < 0) {
+                fields.add(field.toString());
+                return fields;
+            }
+            if (++recordChars > MAX_RECORD_CHARS) {
+                throw new IOException("Registro iniciado na linha " + recordLine
+                        + " excede " + MAX_RECORD_CHARS + " caracteres");
+            }
+
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    int following = peek();
+                    if (following == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\r' || ch == '\n') {
+                if (ch == '\r' && peek() == '\n') {
+                    read();
+                }
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append(ch);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Linha do arquivo em que começa o último registro lido
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        char ch = buffer[position++];
+        // Ignora o BOM de arquivos UTF-8 gerados por planilhas
+        if (firstChar) {
+            firstChar = false;
+            if (ch == '\uFEFF') {
+                return read();
+            }
+        }
+        return ch;
+    }
+
+    private int peek() throws IOException {
+        return fill() ? buffer[position] : -1;
+    }
+
+    private boolean fill() throws IOException {
+        if (position < limit) {
+            return true;
+        }
+        limit = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        return limit > 0;
+    }
+}
@@ -1,39 +1,166 @@
 package com.br.courses.service;
 
+import com.br.courses.dto.CacheStatsResponse;
 import com.br.courses.model.User;
 import com.br.courses.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Carrega usuários para o Spring Security com um cache limitado por tamanho e TTL
+ * O UserService atualiza ou invalida a entrada a cada mudança, então desativar um usuário
+ * vale na próxima requisição; o TTL só cobre alterações feitas direto no banco
+ */
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
+    /** Uma lista de authorities por papel, compartilhada entre todos os usuários */
+    private static final ConcurrentMap<String, List<GrantedAuthority>> AUTHORITIES_BY_ROLE = new ConcurrentHashMap<>();
+
     private final UserRepository userRepository;
+    private final Cache<String, CachedUserDetails> cache;
+
+    /**
+     * Snapshot imutável do usuário guardado no cache
+     * Nunca sai do serviço: cada carga recebe a própria cópia (LoadedUserDetails)
+     */
+    record CachedUserDetails(
+        Long id,
+        String username,
+        String password,
+        boolean enabled,
+        List<GrantedAuthority> authorities
+    ) {
+
+        static CachedUserDetails of(User user) {
+            List<GrantedAuthority> authorities = AUTHORITIES_BY_ROLE.computeIfAbsent(
+                    user.getRole(), role -> List.of(new SimpleGrantedAuthority(role)));
+            return new CachedUserDetails(user.getId(), user.getUsername(), user.getPassword(),
+                    Boolean.TRUE.equals(user.getEnabled()), authorities);
+        }
+
+        LoadedUserDetails toUserDetails() {
+            return new LoadedUserDetails(username, password, enabled, authorities);
+        }
+
+        /**
+         * A senha (hash) fica fora do toString para não vazar em logs
+         */
+        @Override
+        public String toString() {
+            return "CachedUserDetails[id=" + id + ", username=" + username + ", enabled=" + enabled
+                    + ", authorities=" + authorities + "]";
+        }
+    }
+
+    /**
+     * Usuário entregue ao Spring Security, com as authorities compartilhadas do snapshot
+     * Implementa CredentialsContainer: o ProviderManager apaga o hash após o login, então o principal
+     * autenticado não carrega a senha; a entrada do cache é outra instância e continua intacta
+     */
+    static final class LoadedUserDetails implements UserDetails, CredentialsContainer {
+
+        private final String username;
+        private final boolean enabled;
+        private final List<GrantedAuthority> authorities;
+        private String password;
+
+        LoadedUserDetails(String username, String password, boolean enabled, List<GrantedAuthority> authorities) {
+            this.username = username;
+            this.password = password;
+            this.enabled = enabled;
+            this.authorities = authorities;
+        }
+
+        @Override
+        public List<GrantedAuthority> getAuthorities() {
+            return authorities;
+        }
+
+        @Override
+        public String getPassword() {
+            return password;
+        }
+
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public void eraseCredentials() {
+            password = null;
+        }
+
+        @Override
+        public String toString() {
+            return "LoadedUserDetails[username=" + username + ", enabled=" + enabled + ", authorities=" + authorities + "]";
+        }
+    }
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${app.cache.users.max-size:10000}") long maxSize,
+                                    @Value("${app.cache.users.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
 
     /**
      * Carrega os detalhes do usuário pelo username
      * Utilizado pelo Spring Security para autenticação
+     * Usernames inexistentes não são cacheados
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                user.getEnabled(),
-                true,
-                true,
-                true,
-                Collections.singletonList(new SimpleGrantedAuthority(user.getRole()))
-        );
+        return cache.get(username, key -> CachedUserDetails.of(userRepository.findByUsername(key)
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + key))))
+                .toUserDetails();
+    }
+
+    /**
+     * Substitui a entrada do usuário pelo estado recém-salvo
+     */
+    public void refresh(User user) {
+        cache.put(user.getUsername(), CachedUserDetails.of(user));
+    }
+
+    /**
+     * Remove o usuário do cache; a próxima autenticação consulta o banco
+     */
+    public void evict(String username) {
+        cache.invalidate(username);
     }
-}
 
+    /**
+     * Remove o usuário do cache pelo id, para quem não tem o username em mãos
+     * Percorre as entradas; usado só em remoções de usuário, que são raras
+     */
+    public void evictById(Long id) {
+        cache.asMap().values().removeIf(details -> id.equals(details.id()));
+    }
+
+    public CacheStatsResponse stats() {
+        return CacheStatsResponse.of(cache.estimatedSize(), cache.stats());
+    }
+}
@@ -0,0 +1,50 @@
+package com.br.courses.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de texto em português para indexação
+ * Remove acentos, converte para minúsculas e descarta stopwords
+ */
+public final class TextNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "o", "e", "as", "os", "ao", "aos", "de", "da", "do", "das", "dos",
+            "em", "no", "na", "nos", "nas", "um", "uma", "para", "por", "com", "que"
+    );
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Remove acentos e converte para minúsculas ("Programação" -> "programacao")
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Quebra o texto em termos normalizados, ignorando stopwords
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty() && !STOPWORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -15,6 +15,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService userDetailsService;
 
     /**
      * Registra um novo usuário no sistema
@@ -34,7 +35,9 @@ public class UserService {
             user.setRole("ROLE_USER");
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userDetailsService.evict(user.getUsername());
+        return saved;
     }
 
     /**
@@ -67,6 +70,7 @@ public class UserService {
 
     /**
      * Atualiza um usuário
+     * A entrada do cache de autenticação é substituída pelo estado salvo
      */
     public User updateUser(Long id, User userDetails) {
         return userRepository.findById(id).map(user -> {
@@ -79,15 +83,23 @@ public class UserService {
             if (userDetails.getEnabled() != null) {
                 user.setEnabled(userDetails.getEnabled());
             }
-            return userRepository.save(user);
+            User saved = userRepository.save(user);
+            userDetailsService.refresh(saved);
+            return saved;
         }).orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado"));
     }
 
     /**
-     * Deleta um usuário
+     * Deleta um usuário e, depois do commit, o remove do cache de autenticação
+     *
+     * @return false se o usuário não existe
      */
-    public void deleteUser(Long id) {
-        userRepository.deleteById(id);
+    public boolean deleteUser(Long id) {
+        if (userRepository.deleteUserById(id) == 0) {
+            return false;
+        }
+        userDetailsService.evictById(id);
+        return true;
     }
 }
 
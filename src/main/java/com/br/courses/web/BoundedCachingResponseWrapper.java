@@ -0,0 +1,169 @@
+package com.br.courses.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Guarda o corpo da resposta em memória até o limite informado
+ * Se o corpo passar do limite, o que já foi guardado é enviado e o restante segue direto
+ * para o cliente: a memória usada por requisição nunca passa de maxBytes
+ * Escrita assíncrona (WriteListener ou requisição assíncrona) não é guardada: o corpo segue direto
+ */
+class BoundedCachingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int maxBytes;
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BoundedCachingResponseWrapper(HttpServletResponse response, int maxBytes) {
+        super(response);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (outputStream == null) {
+            outputStream = new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    write(new byte[]{(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    append(bytes, offset, length);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    if (!isBuffering()) {
+                        passthrough().flush();
+                    }
+                }
+
+                @Override
+                public boolean isReady() {
+                    return isBuffering() || passthrough().isReady();
+                }
+
+                /**
+                 * Escrita não bloqueante: o container chama o listener conforme o socket libera,
+                 * então o corpo deixa de ser guardado e o listener vai para o stream real
+                 */
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                    try {
+                        bypass();
+                        passthrough().setWriteListener(listener);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            Charset charset = getCharacterEncoding() == null
+                    ? StandardCharsets.ISO_8859_1
+                    : Charset.forName(getCharacterEncoding());
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset));
+        }
+        return writer;
+    }
+
+    /**
+     * Enquanto o corpo cabe no buffer, flush não faz commit: o corpo ainda pode ir para o cache
+     */
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (buffer == null) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (buffer != null) {
+            buffer.reset();
+        }
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        if (buffer != null) {
+            buffer.reset();
+        }
+        super.reset();
+    }
+
+    /**
+     * Corpo completo, ou null se passou do limite ou foi escrito de forma assíncrona e já foi enviado direto
+     */
+    synchronized byte[] cachedBody() {
+        return buffer == null ? null : buffer.toByteArray();
+    }
+
+    /**
+     * Deixa de guardar o corpo: o que já foi guardado é enviado e o restante segue direto para o cliente
+     * Sincronizado com append, porque numa requisição assíncrona outra thread pode estar escrevendo
+     */
+    synchronized void bypass() throws IOException {
+        if (buffer != null) {
+            buffer.writeTo(passthrough());
+            buffer = null;
+        }
+    }
+
+    /**
+     * Envia ao cliente o que ainda estiver no buffer
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (buffer != null && buffer.size() > 0) {
+            if (!isCommitted()) {
+                super.setContentLength(buffer.size());
+            }
+            buffer.writeTo(passthrough());
+        }
+    }
+
+    private synchronized boolean isBuffering() {
+        return buffer != null;
+    }
+
+    private ServletOutputStream passthrough() throws IOException {
+        return getResponse().getOutputStream();
+    }
+
+    private synchronized void append(byte[] bytes, int offset, int length) throws IOException {
+        if (buffer != null && buffer.size() + length > maxBytes) {
+            bypass();
+        }
+        if (buffer != null) {
+            buffer.write(bytes, offset, length);
+        } else {
+            passthrough().write(bytes, offset, length);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.br.courses.web;
+
+import com.br.courses.dto.CourseChangeMessage;
+import com.br.courses.dto.CourseResponse;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.service.CatalogVersion;
+import com.br.courses.service.CourseChangedEvent;
+import com.br.courses.service.CoursesBulkChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feed de mudanças de cursos via Server-Sent Events
+ * Cada mutação recebe uma sequência crescente e fica em um buffer circular, o que permite
+ * que um cliente reconectado com Last-Event-ID receba somente o que perdeu
+ * Cada assinante tem uma fila limitada esvaziada por uma virtual thread própria, então um cliente lento
+ * não bloqueia quem altera cursos nem o envio aos demais assinantes; se a fila enche, o assinante
+ * é desconectado e deve reconectar com o último id recebido
+ * Operações em massa acima de app.stream.bulk-event-threshold cursos geram um único evento "reset"
+ */
+@Component
+@Slf4j
+public class CourseChangeFeed {
+
+    static final String RESET_EVENT = "reset";
+
+    private final CourseMapper courseMapper;
+    private final int subscriberQueueSize;
+    private final int bulkEventThreshold;
+    private final Duration timeout;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeat;
+
+    /** prefixo dos ids de evento: sequências de execuções anteriores não são confundidas com as atuais */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Object lock = new Object();
+    private final CourseChangeMessage[] buffer;
+    private long sequence;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public CourseChangeFeed(CourseMapper courseMapper,
+                            @Value("${app.stream.buffer-size:10000}") int bufferSize,
+                            @Value("${app.stream.subscriber-queue-size:1000}") int subscriberQueueSize,
+                            @Value("${app.stream.timeout:30m}") Duration timeout,
+                            @Value("${app.stream.heartbeat:15s}") Duration heartbeatInterval,
+                            @Value("${app.stream.bulk-event-threshold:100}") int bulkEventThreshold) {
+        this(courseMapper, bufferSize, subscriberQueueSize, bulkEventThreshold, timeout, newDispatcher(),
+                Executors.newSingleThreadScheduledExecutor(daemon("course-stream-heartbeat-")));
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    CourseChangeFeed(CourseMapper courseMapper, int bufferSize, int subscriberQueueSize, int bulkEventThreshold,
+                     Duration timeout, ExecutorService dispatcher, ScheduledExecutorService heartbeat) {
+        this.courseMapper = courseMapper;
+        this.buffer = new CourseChangeMessage[bufferSize];
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.bulkEventThreshold = bulkEventThreshold;
+        this.timeout = timeout;
+        this.dispatcher = dispatcher;
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * Registra um assinante e, se lastEventId for informado, reenvia as mudanças perdidas
+     * Quando não é possível retomar (id de outra execução ou mais antigo que o buffer),
+     * envia um evento "reset": o cliente deve recarregar o catálogo e seguir a partir dele
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        synchronized (lock) {
+            subscriber.enqueue(Outbound.comment("conectado"));
+            if (lastEventId != null) {
+                List<CourseChangeMessage> missed = missedSince(lastEventId);
+                if (missed == null) {
+                    subscriber.enqueue(Outbound.reset(eventId(sequence)));
+                } else {
+                    missed.forEach(message -> subscriber.enqueue(Outbound.change(eventId(message.sequence()), message)));
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    @Order(CatalogVersion.NOTIFICATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        CourseChangeMessage.Type type = CourseChangeMessage.Type.valueOf(event.type().name());
+        publish(type, event.courseId(), courseMapper.toResponse(event.course()));
+    }
+
+    /**
+     * Um evento por curso até o limite; acima dele, um único RESET, que ocupa uma só posição
+     * no buffer e nas filas em vez de desconectar todos os assinantes por fila cheia
+     * Vale para UPDATE e DELETE em massa e para cada bloco da criação em lote e da importação
+     */
+    @Order(CatalogVersion.NOTIFICATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesBulkChanged(CoursesBulkChangedEvent event) {
+        if (event.courseIds().size() > bulkEventThreshold) {
+            publish(CourseChangeMessage.Type.RESET, null, null);
+            return;
+        }
+        CourseChangeMessage.Type type = CourseChangeMessage.Type.valueOf(event.type().name());
+        if (event.type() == CoursesBulkChangedEvent.Type.CREATED) {
+            event.courses().forEach(course -> publish(type, course.getId(), courseMapper.toResponse(course)));
+            return;
+        }
+        event.courseIds().forEach(courseId -> publish(type, courseId, null));
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * Mudanças posteriores ao lastEventId, ou null se não for possível retomar a partir dele
+     * Deve ser chamado com o lock
+     */
+    List<CourseChangeMessage> missedSince(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return null;
+        }
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        long missed = sequence - last;
+        if (missed < 0 || missed > buffer.length || missed > subscriberQueueSize - 2) {
+            return null;
+        }
+        List<CourseChangeMessage> messages = new ArrayList<>((int) missed);
+        for (long position = last + 1; position <= sequence; position++) {
+            messages.add(buffer[(int) (position % buffer.length)]);
+        }
+        return messages;
+    }
+
+    String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private void publish(CourseChangeMessage.Type type, Long courseId, CourseResponse course) {
+        synchronized (lock) {
+            CourseChangeMessage message = new CourseChangeMessage(++sequence, type, courseId, course);
+            buffer[(int) (message.sequence() % buffer.length)] = message;
+            Outbound outbound = Outbound.change(eventId(message.sequence()), message);
+            subscribers.forEach(subscriber -> subscriber.offer(outbound));
+        }
+    }
+
+    private void sendHeartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(Outbound.comment("heartbeat")));
+    }
+
+    /**
+     * Evento a enviar; o SseEventBuilder não pode ser reutilizado entre assinantes,
+     * então é montado no momento do envio
+     */
+    private record Outbound(String id, String name, Object data, String comment) {
+
+        /**
+         * RESET usa o mesmo nome de evento da retomada impossível: o cliente trata os dois do mesmo jeito
+         */
+        static Outbound change(String id, CourseChangeMessage message) {
+            String name = message.type() == CourseChangeMessage.Type.RESET ? RESET_EVENT : message.type().name();
+            return new Outbound(id, name, message, null);
+        }
+
+        static Outbound reset(String id) {
+            return new Outbound(id, RESET_EVENT, Map.of("reason", "Não é possível retomar a partir do Last-Event-ID informado; recarregue o catálogo"), null);
+        }
+
+        static Outbound comment(String comment) {
+            return new Outbound(null, null, null, comment);
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().id(id).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outbound> queue = new ArrayBlockingQueue<>(subscriberQueueSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Enfileira na inscrição, antes do assinante ficar visível para publicações
+         */
+        void enqueue(Outbound outbound) {
+            queue.offer(outbound);
+        }
+
+        /**
+         * Enfileira sem bloquear; fila cheia significa cliente lento, que é desconectado
+         * O complete roda na thread do assinante: se um envio estiver preso no socket, quem publica não espera por ele
+         */
+        void offer(Outbound outbound) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(outbound)) {
+                log.warn("Assinante do feed de cursos desconectado: fila de {} eventos cheia", subscriberQueueSize);
+                close();
+                dispatcher.execute(emitter::complete);
+                return;
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Outbound outbound;
+                while (!closed && (outbound = queue.poll()) != null) {
+                    emitter.send(outbound.toEvent());
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+    }
+
+    /**
+     * Uma virtual thread por esvaziamento de fila: um send bloqueado por um cliente lento
+     * segura só a sua thread, não um worker compartilhado com os demais assinantes
+     */
+    private static ExecutorService newDispatcher() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("course-stream-", 1).factory());
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
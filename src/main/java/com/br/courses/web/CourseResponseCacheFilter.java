@@ -0,0 +1,209 @@
+package com.br.courses.web;
+
+import com.br.courses.service.CatalogVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache HTTP das listagens de cursos já serializadas
+ * Guarda o JSON de cada GET como bytes imutáveis, em texto puro e em gzip, e nas requisições
+ * seguintes escreve esses bytes direto no output stream, sem mapear, serializar ou comprimir de novo
+ * Cada entrada é marcada com a versão do catálogo em que foi gerada; qualquer mutação de curso
+ * avança a versão e torna as entradas anteriores obsoletas
+ * Roda depois do Spring Security, então a autenticação continua sendo exigida em todo acesso
+ * A listagem completa com descrição não tem limite de tamanho e fica fora do cache; nas demais,
+ * corpos acima de max-entry-bytes passam direto para o cliente sem serem guardados
+ */
+@Component
+@Slf4j
+public class CourseResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final int MIN_GZIP_SIZE = 1024;
+    private static final String FULL_LISTING_PATH = "/api/courses";
+
+    private final CatalogVersion catalogVersion;
+    private final Set<String> paths;
+    private final int maxEntryBytes;
+    private final Cache<String, CachedResponse> cache;
+
+    /**
+     * Resposta serializada; gzip é null quando o corpo é pequeno demais para compensar
+     */
+    record CachedResponse(long catalogVersion, String contentType, String etag, byte[] raw, byte[] gzip) {
+        int weight() {
+            return raw.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+
+    public CourseResponseCacheFilter(CatalogVersion catalogVersion,
+                                     @Value("${app.cache.responses.paths:/api/courses,/api/courses/facets,/api/courses/search,/api/courses/filter}") List<String> paths,
+                                     @Value("${app.cache.responses.max-bytes:67108864}") long maxBytes,
+                                     @Value("${app.cache.responses.max-entry-bytes:1048576}") int maxEntryBytes) {
+        this.catalogVersion = catalogVersion;
+        this.paths = Set.copyOf(paths);
+        this.maxEntryBytes = maxEntryBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse response) -> response.weight())
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !paths.contains(path(request)) || isFullListing(request);
+    }
+
+    /**
+     * GET /api/courses?includeDescription=true sem limit: o catálogo inteiro com descrições
+     */
+    private static boolean isFullListing(HttpServletRequest request) {
+        return FULL_LISTING_PATH.equals(path(request))
+                && request.getParameter("limit") == null
+                && Boolean.parseBoolean(request.getParameter("includeDescription"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = request.getQueryString() == null ? path(request) : path(request) + "?" + request.getQueryString();
+        long version = catalogVersion.current();
+
+        // A representação depende do Accept-Encoding mesmo quando esta resposta sai sem gzip
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null && cached.catalogVersion() == version) {
+            write(cached, request, response);
+            return;
+        }
+
+        BoundedCachingResponseWrapper wrapper = new BoundedCachingResponseWrapper(response, maxEntryBytes);
+        filterChain.doFilter(request, wrapper);
+        if (request.isAsyncStarted()) {
+            // O corpo será escrito por outra thread depois que este filtro retornar: não há o que guardar
+            wrapper.bypass();
+            return;
+        }
+        wrapper.finish();
+
+        byte[] raw = wrapper.cachedBody();
+        if (raw != null && wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentType() != null
+                && wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) == null) {
+            cache.put(key, new CachedResponse(version, wrapper.getContentType(),
+                    wrapper.getHeader(HttpHeaders.ETAG), raw, raw.length >= MIN_GZIP_SIZE ? gzip(raw) : null));
+        }
+    }
+
+    private static void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (cached.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, cached.etag());
+            if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+
+        byte[] body = cached.raw();
+        if (cached.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = cached.gzip();
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * If-None-Match aceita "*" ou uma lista de ETags separadas por vírgula,
+     * comparadas de forma fraca (o prefixo W/ é ignorado), como manda a RFC 9110
+     */
+    static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String target = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if ("*".equals(value) || stripWeak(value).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    /**
+     * Accept-Encoding é uma lista de codificações com peso opcional (;q=), como manda a RFC 9110
+     * gzip (ou x-gzip) vale pelo próprio peso; se não aparecer, vale o peso de "*"
+     * Peso 0, ou inválido, recusa a codificação
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        double gzip = -1;
+        double wildcard = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double weight = weight(parts);
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzip = Math.max(gzip, weight);
+            } else if ("*".equals(coding)) {
+                wildcard = weight;
+            }
+        }
+        return (gzip >= 0 ? gzip : wildcard) > 0;
+    }
+
+    private static double weight(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    double q = Double.parseDouble(parameter.substring(2).trim());
+                    return q >= 0 && q <= 1 ? q : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(raw.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
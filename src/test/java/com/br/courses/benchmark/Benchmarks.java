@@ -0,0 +1,62 @@
+package com.br.courses.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.IntSupplier;
+
+/**
+ * Massa, aquecimento e medição comuns aos testes com @Tag("benchmark")
+ * Como rodar e os ajustes de cada benchmark ficam no README
+ */
+public final class Benchmarks {
+
+    /** Tópicos dos títulos sintéticos; com id % TOPICS.length, cada um fica em 1/8 do catálogo */
+    public static final String[] TOPICS = {"Java", "Spring", "Kotlin", "React", "SQL", "Docker", "Python", "Go"};
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Latência de uma operação medida várias vezes
+     *
+     * @param results resultados devolvidos pela última execução
+     */
+    public record Latency(int results, double p50Ms, double p99Ms) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "resultados: %d | p50: %.3f ms | p99: %.3f ms", results, p50Ms, p99Ms);
+        }
+    }
+
+    /**
+     * Monta a massa do benchmark e imprime quanto tempo levou
+     *
+     * @param description o que foi montado, ex.: "cursos indexados"
+     */
+    public static void populate(int count, String description, Runnable fixture) {
+        long start = System.nanoTime();
+        fixture.run();
+        System.out.printf(Locale.ROOT, "%n%d %s em %d ms%n", count, description, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Executa a operação warmup vezes sem medir e depois iterations vezes medindo cada execução
+     *
+     * @param operation devolve a quantidade de resultados
+     */
+    public static Latency measure(int warmup, int iterations, IntSupplier operation) {
+        for (int i = 0; i < warmup; i++) {
+            operation.getAsInt();
+        }
+        long[] latencies = new long[iterations];
+        int results = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            results = operation.getAsInt();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return new Latency(results, latencies[iterations / 2] / 1_000_000.0, latencies[iterations * 99 / 100] / 1_000_000.0);
+    }
+}
@@ -0,0 +1,88 @@
+package com.br.courses.controller;
+
+import com.br.courses.benchmark.Benchmarks;
+import com.br.courses.dto.CourseBatchItemResult;
+import com.br.courses.dto.CourseRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark da criação em lote: POST /api/courses/batch contra N chamadas de POST /api/courses
+ * Os endpoints são chamados direto no controller, então o tempo medido é o de validação, transação e SQL
+ * Compara a mediana das rodadas e a vazão em cursos por segundo das duas abordagens
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DisplayName("CourseController batch benchmark")
+class CourseBatchBenchmarkTest {
+
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batch.size", 1_000);
+    private static final int WARMUP = 2;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private CourseController controller;
+
+    /** os títulos de cada rodada precisam ser novos */
+    private final AtomicInteger rounds = new AtomicInteger();
+
+    @Test
+    @DisplayName("Lote único contra N POSTs individuais")
+    void batchVersusSinglePosts() {
+        Benchmarks.Latency batch = Benchmarks.measure(WARMUP, ROUNDS, this::runBatch);
+        Benchmarks.Latency singles = Benchmarks.measure(WARMUP, ROUNDS, this::runSingles);
+
+        System.out.printf(Locale.ROOT, "%n== %d cursos ==%n" +
+                        "POST /batch:        %8.2f ms | %,10.0f cursos/s%n" +
+                        "%d x POST /:     %8.2f ms | %,10.0f cursos/s%n" +
+                        "lote %.1fx mais rápido%n",
+                BATCH_SIZE,
+                batch.p50Ms(), throughput(batch.p50Ms()),
+                BATCH_SIZE, singles.p50Ms(), throughput(singles.p50Ms()),
+                singles.p50Ms() / batch.p50Ms());
+    }
+
+    /**
+     * Um POST /batch com BATCH_SIZE cursos
+     */
+    private int runBatch() {
+        List<CourseBatchItemResult> results = controller.salvarLote(requests("lote-" + rounds.incrementAndGet())).getBody();
+
+        assertThat(results).hasSize(BATCH_SIZE)
+                .allMatch(result -> result.status() == CourseBatchItemResult.Status.CREATED);
+        return results.size();
+    }
+
+    /**
+     * BATCH_SIZE chamadas de POST /
+     */
+    private int runSingles() {
+        List<CourseRequest> requests = requests("individual-" + rounds.incrementAndGet());
+        for (CourseRequest request : requests) {
+            controller.salvar(request);
+        }
+        return requests.size();
+    }
+
+    private static List<CourseRequest> requests(String label) {
+        List<CourseRequest> requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            requests.add(new CourseRequest("Curso " + label + " " + i, "Descrição do curso " + i, "Benchmark", 1 + i % 200));
+        }
+        return requests;
+    }
+
+    private static double throughput(double millis) {
+        return BATCH_SIZE * 1_000.0 / millis;
+    }
+}
@@ -0,0 +1,97 @@
+package com.br.courses.controller;
+
+import com.br.courses.dto.CourseRequest;
+import com.br.courses.exception.GlobalExceptionHandler;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.mapper.CursorCodec;
+import com.br.courses.model.Course;
+import com.br.courses.service.CatalogVersion;
+import com.br.courses.service.CourseBatchService;
+import com.br.courses.service.CourseCache;
+import com.br.courses.service.CourseFacetAggregate;
+import com.br.courses.service.CourseService;
+import com.br.courses.service.CourseSyncService;
+import com.br.courses.service.CourseTitleSuggester;
+import com.br.courses.web.CourseChangeFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.ObjectMapper;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourseController Tests")
+class CourseControllerTest {
+
+    @Mock
+    private CourseService service;
+
+    @Mock
+    private CourseBatchService batchService;
+
+    @Mock
+    private CourseSyncService syncService;
+
+    @Mock
+    private CourseFacetAggregate facetAggregate;
+
+    @Mock
+    private CourseTitleSuggester titleSuggester;
+
+    @Mock
+    private CourseCache courseCache;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private CourseChangeFeed changeFeed;
+
+    @Mock
+    private CursorCodec cursorCodec;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        CourseController controller = new CourseController(service, batchService, syncService, facetAggregate,
+                titleSuggester, courseCache, catalogVersion, changeFeed, new CourseMapper(), cursorCodec, objectMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("PUT /{id} deve responder 409 quando outra requisição alterou o curso antes")
+    void shouldRespondConflictOnStaleVersion() throws Exception {
+        // Arrange
+        when(service.update(eq(1L), any(CourseRequest.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Course.class, 1L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/courses/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "Java", "description": "Fundamentos de Java", "category": "Backend", "duration": 30}
+                                """))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.error").value("Conflict"));
+    }
+}
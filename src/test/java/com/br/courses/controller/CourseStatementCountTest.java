@@ -0,0 +1,207 @@
+package com.br.courses.controller;
+
+import com.br.courses.dto.CourseBulkDeleteRequest;
+import com.br.courses.dto.CourseFilter;
+import com.br.courses.dto.CourseRequest;
+import com.br.courses.dto.CourseResponse;
+import com.br.courses.exception.ItemNotFoundException;
+import com.br.courses.model.Course;
+import com.br.courses.model.CourseTombstone;
+import com.br.courses.repository.CourseRepository;
+import com.br.courses.repository.CourseTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Quantidade exata de comandos SQL por endpoint de cursos
+ * Os endpoints são chamados direto no controller, sem open-in-view, como no pior caso;
+ * uma consulta a mais em qualquer caminho de leitura ou escrita faz o teste falhar
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.br.courses.controller.SqlStatementCounter"
+})
+@DisplayName("CourseController SQL statement count")
+class CourseStatementCountTest {
+
+    @Autowired
+    private CourseController controller;
+
+    @Autowired
+    private CourseRepository repository;
+
+    @Autowired
+    private CourseTombstoneRepository tombstoneRepository;
+
+    private Long courseId;
+
+    @BeforeEach
+    void setUp() {
+        Course course = new Course();
+        course.setTitle("Spring Boot");
+        course.setDescription("Fundamentos do Spring Boot");
+        course.setCategory("Backend");
+        course.setDuration(40);
+        courseId = repository.save(course).getId();
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    @DisplayName("POST / executa somente o INSERT")
+    void createIssuesSingleInsert() {
+        controller.salvar(new CourseRequest("Java", "Fundamentos de Java", "Backend", 30));
+
+        assertStatements("insert");
+    }
+
+    @Test
+    @DisplayName("GET /{id} executa um SELECT no miss e nenhum no hit")
+    void readIssuesOneSelectThenNone() {
+        ResponseEntity<CourseResponse> cold = controller.listar(courseId, webRequest(null));
+        assertStatements("select");
+
+        SqlStatementCounter.reset();
+        ResponseEntity<CourseResponse> warm = controller.listar(courseId, webRequest(null));
+        assertStatements();
+
+        assertThat(warm.getBody()).isEqualTo(cold.getBody());
+    }
+
+    @Test
+    @DisplayName("GET /{id} com If-None-Match válido não executa SQL com o curso em cache")
+    void conditionalReadIssuesNoStatements() {
+        String etag = controller.listar(courseId, webRequest(null)).getHeaders().getETag();
+        SqlStatementCounter.reset();
+
+        ServletWebRequest request = webRequest(etag);
+        ResponseEntity<CourseResponse> response = controller.listar(courseId, request);
+
+        assertThat(response).isNull();
+        assertThat(request.getResponse().getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertStatements();
+    }
+
+    @Test
+    @DisplayName("GET /{id} condicional com o curso fora do cache lê só a versão para responder 304")
+    void conditionalReadOnColdCacheSelectsOnlyVersion() {
+        ServletWebRequest request = webRequest("\"" + courseId + "-0\"");
+        ResponseEntity<CourseResponse> response = controller.listar(courseId, request);
+
+        assertThat(response).isNull();
+        assertThat(request.getResponse().getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertStatements("select");
+        assertThat(SqlStatementCounter.statements().get(0)).doesNotContainIgnoringCase("description");
+    }
+
+    @Test
+    @DisplayName("PUT /{id} executa um SELECT e um UPDATE")
+    void updateIssuesSelectAndUpdate() {
+        ResponseEntity<CourseResponse> response = controller.editar(courseId,
+                new CourseRequest("Spring Boot 4", "Novidades do Spring Boot 4", "Backend", 20));
+
+        assertStatements("select", "update");
+        assertThat(response.getBody().version()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("PUT /{id} de curso inexistente executa somente o SELECT")
+    void updateMissingIssuesSingleSelect() {
+        assertThatThrownBy(() -> controller.editar(-1L, new CourseRequest("T", "D", "C", 1)))
+                .isInstanceOf(ItemNotFoundException.class);
+
+        assertStatements("select");
+    }
+
+    @Test
+    @DisplayName("DELETE /{id} executa SELECT, INSERT da remoção e DELETE")
+    void deleteIssuesSelectTombstoneAndDelete() {
+        controller.deletar(courseId);
+
+        assertStatements("select", "insert", "delete");
+    }
+
+    @Test
+    @DisplayName("DELETE /{id} de curso inexistente executa somente o SELECT")
+    void deleteMissingIssuesSingleSelect() {
+        assertThatThrownBy(() -> controller.deletar(-1L))
+                .isInstanceOf(ItemNotFoundException.class);
+
+        assertStatements("select");
+    }
+
+    @Test
+    @DisplayName("DELETE /{id} de curso já registrado por uma remoção concorrente responde 404 sem violar a PK")
+    void deleteAlreadyTombstonedIsNotFound() {
+        CourseTombstone tombstone = new CourseTombstone();
+        tombstone.setCourseId(courseId);
+        tombstone.setChangeVersion(1L);
+        tombstone.setDeletedAt(Instant.now());
+        tombstoneRepository.save(tombstone);
+        SqlStatementCounter.reset();
+
+        assertThatThrownBy(() -> controller.deletar(courseId))
+                .isInstanceOf(ItemNotFoundException.class);
+
+        assertStatements("select", "insert");
+        tombstoneRepository.deleteById(courseId);
+    }
+
+    @Test
+    @DisplayName("POST /bulk/delete registra as remoções pelo filtro, lê os ids removidos e executa um DELETE")
+    void bulkDeleteRecordsTombstonesByFilter() {
+        Course course = repository.findById(courseId).orElseThrow();
+        course.setCategory("Remoção em massa " + courseId);
+        repository.save(course);
+        SqlStatementCounter.reset();
+
+        controller.deletarEmMassa(new CourseBulkDeleteRequest(
+                new CourseFilter("Remoção em massa " + courseId, null, null, null, null)));
+
+        assertStatements("insert", "select", "delete");
+        assertThat(SqlStatementCounter.statements().get(0)).containsIgnoringCase("select");
+        assertThat(repository.existsById(courseId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("GET / executa um SELECT e nenhum com o ETag do catálogo")
+    void listIssuesSingleSelectOrNone() {
+        controller.listarTodos(false, webRequest(null));
+        assertStatements("select");
+
+        SqlStatementCounter.reset();
+        MockHttpServletRequest probe = new MockHttpServletRequest("GET", "/api/courses");
+        MockHttpServletResponse probeResponse = new MockHttpServletResponse();
+        controller.listarTodos(false, new ServletWebRequest(probe, probeResponse));
+        String etag = probeResponse.getHeader("ETag");
+
+        SqlStatementCounter.reset();
+        controller.listarTodos(false, webRequest(etag));
+        assertStatements();
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private static void assertStatements(String... kinds) {
+        assertThat(SqlStatementCounter.kinds())
+                .as("SQL executado: %s", SqlStatementCounter.statements())
+                .containsExactly(kinds);
+    }
+}
@@ -0,0 +1,45 @@
+package com.br.courses.controller;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registra todo SQL preparado pelo Hibernate para que os testes verifiquem
+ * exatamente quais comandos cada endpoint executa
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    static void reset() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Tipo (select, insert, update, delete) de cada comando desde o último reset
+     * A busca de ids na sequence é ignorada: com allocationSize = 50 ela ocorre
+     * uma vez a cada 50 inserts e não faz parte do custo por requisição
+     * Dialetos sem INSERT ... ON CONFLICT (H2) o emulam com MERGE, que conta como insert
+     */
+    static List<String> kinds() {
+        return STATEMENTS.stream()
+                .map(sql -> sql.trim().toLowerCase(Locale.ROOT))
+                .filter(sql -> !sql.contains("next value for"))
+                .map(sql -> sql.substring(0, sql.indexOf(' ')))
+                .map(kind -> kind.equals("merge") ? "insert" : kind)
+                .toList();
+    }
+
+    static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+}
@@ -0,0 +1,77 @@
+package com.br.courses.diagnostics;
+
+import com.br.courses.dto.PinningReportResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("VirtualThreadPinningMonitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10), 12);
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("Deve iniciar sem eventos e parar a gravação")
+    void shouldStartEmptyAndStop() {
+        assertThat(monitor.isRunning()).isTrue();
+        assertThat(monitor.report().events()).isZero();
+        assertThat(monitor.report().thresholdMillis()).isEqualTo(10);
+
+        monitor.stop();
+
+        assertThat(monitor.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve reportar a pilha de uma virtual thread bloqueada dentro de synchronized")
+    void shouldReportPinnedVirtualThread() throws InterruptedException {
+        assumeTrue(Runtime.version().feature() < 24,
+                "A partir do Java 24 synchronized não prende mais a carrier thread (JEP 491)");
+        Object lock = new Object();
+
+        // Act
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(50);
+            }
+        }).join();
+
+        // Assert: a gravação JFR entrega os eventos em lotes, aproximadamente a cada segundo
+        PinningReportResponse report = monitor.report();
+        for (int attempt = 0; attempt < 100 && report.events() == 0; attempt++) {
+            Thread.sleep(100);
+            report = monitor.report();
+        }
+        assertThat(report.events()).isEqualTo(1);
+        assertThat(report.sites()).singleElement().satisfies(site -> {
+            assertThat(site.site()).startsWith(VirtualThreadPinningMonitorTest.class.getName());
+            assertThat(site.maxMillis()).isGreaterThanOrEqualTo(10);
+            assertThat(site.stackTrace()).isNotEmpty().hasSizeLessThanOrEqualTo(12);
+        });
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.br.courses.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Carga em taxa fixa sobre o AuthController e o CourseController com o roteiro
+ * login -> listagem paginada -> curso por id -> alteração do curso
+ * Cada etapa gera um histograma de latência; o resumo fica em target/load-reports/login-list-get-update.json
+ * Fora da execução padrão; rode com: mvn test -Dtest.excludedGroups= -Dgroups=load -Dtest=CourseApiLoadTest
+ * Ajuste com -Dload.rate=... (sessões por segundo), -Dload.duration=... (segundos) e -Dload.warmup=...
+ */
+@Tag("load")
+@DisplayName("Course API load test")
+class CourseApiLoadTest {
+
+    private static final double RATE = Double.parseDouble(System.getProperty("load.rate", "50"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration", 60));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup", 10));
+    private static final int USERS = 50;
+    private static final int COURSES = 5000;
+    private static final String SCENARIO = "login-list-get-update";
+    private static final String[] STEPS = {"login", "list", "get", "update"};
+
+    @Test
+    @DisplayName("Roteiro login, listagem, consulta e alteração em taxa fixa")
+    void loginListGetUpdate() throws Exception {
+        try (LoadTestApplication app = LoadTestApplication.start(USERS, COURSES)) {
+            OpenLoadGenerator generator = new OpenLoadGenerator(app.httpClient());
+            OpenLoadGenerator.SessionScript script = session -> runSession(app, session);
+
+            generator.run(RATE, WARMUP, new LoadReport(SCENARIO + "-warmup", RATE, WARMUP, STEPS), script);
+
+            LoadReport report = new LoadReport(SCENARIO, RATE, DURATION, STEPS);
+            generator.run(RATE, DURATION, report, script);
+
+            report.print(System.out);
+            report.write(Path.of("target", "load-reports"));
+            assertThat(report.failedSessions()).isZero();
+        }
+    }
+
+    /**
+     * Cada sessão altera um curso diferente, então não há conflito de versão entre sessões concorrentes
+     */
+    private static void runSession(LoadTestApplication app, OpenLoadGenerator.Session session) throws Exception {
+        String username = LoadTestApplication.username(session.index() % app.users());
+        String token = LoadTestApplication.accessToken(
+                session.send("login", app.loginRequest(username), HttpResponse.BodyHandlers.ofString(), 200));
+
+        session.send("list", authorized(app, "/api/courses?limit=20", token).GET().build(),
+                HttpResponse.BodyHandlers.discarding(), 200);
+
+        long courseId = app.courseId(session.index());
+        session.send("get", authorized(app, "/api/courses/" + courseId, token).GET().build(),
+                HttpResponse.BodyHandlers.discarding(), 200);
+
+        String body = "{\"title\":\"Curso de carga " + courseId + "\",\"description\":\"Alterado pela sessão "
+                + session.index() + "\",\"category\":\"Carga\",\"duration\":" + (1 + session.index() % 200) + "}";
+        session.send("update", authorized(app, "/api/courses/" + courseId, token)
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding(), 200);
+    }
+
+    private static HttpRequest.Builder authorized(LoadTestApplication app, String path, String token) {
+        return HttpRequest.newBuilder(app.uri(path)).header("Authorization", "Bearer " + token);
+    }
+}
@@ -0,0 +1,133 @@
+package com.br.courses.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências por etapa do roteiro em histogramas HdrHistogram (resolução de 3 dígitos)
+ * Gera o relatório de percentis no console, um .hgrm por etapa e um resumo JSON estável para diff entre builds
+ */
+final class LoadReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final JsonMapper JSON = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+
+    private final String scenario;
+    private final double sessionsPerSecond;
+    private final Duration duration;
+    /** etapas na ordem do roteiro; preenchido só no construtor, então pode ser lido sem sincronização */
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+    private final LongAdder sessions = new LongAdder();
+    private final LongAdder failedSessions = new LongAdder();
+    private volatile long elapsedNanos;
+
+    record StepSummary(long count, long errors, double meanMillis, double p50Millis, double p90Millis,
+                       double p99Millis, double p999Millis, double maxMillis) {
+    }
+
+    record Summary(String scenario, double targetSessionsPerSecond, double achievedSessionsPerSecond,
+                   long durationSeconds, long sessions, long failedSessions, Map<String, StepSummary> steps) {
+    }
+
+    private static final class Step {
+        private final Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+        private final LongAdder errors = new LongAdder();
+
+        private StepSummary summary() {
+            return new StepSummary(histogram.getTotalCount(), errors.sum(),
+                    histogram.getMean() / NANOS_PER_MILLI,
+                    millis(50), millis(90), millis(99), millis(99.9),
+                    histogram.getMaxValue() / NANOS_PER_MILLI);
+        }
+
+        private double millis(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+        }
+    }
+
+    LoadReport(String scenario, double sessionsPerSecond, Duration duration, String... stepNames) {
+        this.scenario = scenario;
+        this.sessionsPerSecond = sessionsPerSecond;
+        this.duration = duration;
+        for (String name : stepNames) {
+            steps.put(name, new Step());
+        }
+    }
+
+    void recordLatency(String step, long nanos) {
+        step(step).histogram.recordValue(Math.min(nanos, TimeUnit.MINUTES.toNanos(1)));
+    }
+
+    void recordError(String step) {
+        step(step).errors.increment();
+    }
+
+    void sessionStarted() {
+        sessions.increment();
+    }
+
+    void sessionFailed() {
+        failedSessions.increment();
+    }
+
+    void finished(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    long failedSessions() {
+        return failedSessions.sum();
+    }
+
+    Summary summary() {
+        Map<String, StepSummary> stepSummaries = new LinkedHashMap<>();
+        steps.forEach((name, step) -> stepSummaries.put(name, step.summary()));
+        double achieved = elapsedNanos == 0 ? 0 : sessions.sum() / (elapsedNanos / 1e9);
+        return new Summary(scenario, sessionsPerSecond, Math.round(achieved * 100) / 100.0,
+                duration.toSeconds(), sessions.sum(), failedSessions.sum(), stepSummaries);
+    }
+
+    void print(PrintStream out) {
+        Summary summary = summary();
+        out.printf(Locale.ROOT, "%n== %s: %.1f sessões/s alvo, %.1f atingidas, %d sessões, %d com falha ==%n",
+                scenario, sessionsPerSecond, summary.achievedSessionsPerSecond(), summary.sessions(), summary.failedSessions());
+        out.printf(Locale.ROOT, "%-8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "etapa", "count", "erros", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        summary.steps().forEach((name, step) -> out.printf(Locale.ROOT, "%-8s %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, step.count(), step.errors(), step.p50Millis(), step.p90Millis(), step.p99Millis(),
+                step.p999Millis(), step.maxMillis()));
+    }
+
+    /**
+     * Grava directory/scenario.json e directory/scenario-step.hgrm (distribuição completa em ms)
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        JSON.writeValue(directory.resolve(scenario + ".json").toFile(), summary());
+        for (Map.Entry<String, Step> entry : steps.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(scenario + "-" + entry.getKey() + ".hgrm")))) {
+                entry.getValue().histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private Step step(String name) {
+        Step step = steps.get(name);
+        if (step == null) {
+            throw new IllegalArgumentException("Etapa não declarada no relatório: " + name);
+        }
+        return step;
+    }
+}
@@ -0,0 +1,137 @@
+package com.br.courses.load;
+
+import com.br.courses.CoursesApplication;
+import com.br.courses.model.Course;
+import com.br.courses.model.User;
+import com.br.courses.service.CourseBatchService;
+import com.br.courses.service.UserService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Aplicação completa em uma porta aleatória, com usuários e cursos já cadastrados, para os testes de carga
+ * Os cursos entram pelo CourseBatchService, então índice de busca, facetas e caches ficam consistentes
+ */
+final class LoadTestApplication implements AutoCloseable {
+
+    static final String PASSWORD = "load-password";
+
+    private static final int SEED_CHUNK_SIZE = 500;
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final int users;
+    private final List<Long> courseIds;
+
+    private LoadTestApplication(ConfigurableApplicationContext context, int users, List<Long> courseIds) {
+        this.context = context;
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.users = users;
+        this.courseIds = courseIds;
+    }
+
+    /**
+     * Sobe a aplicação com os perfis informados e cadastra os usuários e cursos
+     */
+    static LoadTestApplication start(int users, int courses, String... profiles) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CoursesApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+
+        UserService userService = context.getBean(UserService.class);
+        for (int i = 0; i < users; i++) {
+            User user = new User();
+            user.setUsername(username(i));
+            user.setEmail(username(i) + "@example.com");
+            user.setPassword(PASSWORD);
+            userService.registerUser(user);
+        }
+
+        CourseBatchService batchService = context.getBean(CourseBatchService.class);
+        List<Long> courseIds = new ArrayList<>(courses);
+        for (int from = 0; from < courses; from += SEED_CHUNK_SIZE) {
+            List<Course> chunk = new ArrayList<>(SEED_CHUNK_SIZE);
+            for (int i = from; i < Math.min(courses, from + SEED_CHUNK_SIZE); i++) {
+                Course course = new Course();
+                course.setTitle("Curso de carga " + i);
+                course.setDescription("Descrição do curso de carga " + i);
+                course.setCategory("Categoria " + (i % 20));
+                course.setDuration(1 + i % 200);
+                chunk.add(course);
+            }
+            batchService.insertChunk(chunk).forEach(course -> courseIds.add(course.getId()));
+        }
+        return new LoadTestApplication(context, users, List.copyOf(courseIds));
+    }
+
+    static String username(int index) {
+        return "load" + index;
+    }
+
+    HttpClient httpClient() {
+        return httpClient;
+    }
+
+    URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    int users() {
+        return users;
+    }
+
+    /**
+     * Id de um curso cadastrado; índices diferentes (até o total) nunca repetem o curso
+     */
+    long courseId(int index) {
+        return courseIds.get(Math.floorMod(index, courseIds.size()));
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    HttpRequest loginRequest(String username) {
+        return HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+    }
+
+    /**
+     * Extrai o access token do corpo de uma resposta de login
+     */
+    static String accessToken(HttpResponse<String> loginResponse) {
+        Matcher matcher = ACCESS_TOKEN.matcher(loginResponse.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Login sem access token: " + loginResponse.body());
+        }
+        return matcher.group(1);
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+        context.close();
+    }
+}
@@ -0,0 +1,112 @@
+package com.br.courses.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em modelo aberto: sessões chegam em uma taxa fixa, independente
+ * de quanto o servidor demora para responder
+ * A latência é medida a partir do instante em que a sessão deveria ter começado, e não
+ * de quando o cliente conseguiu enviar, o que evita a omissão coordenada: se o servidor
+ * trava, as sessões atrasadas entram no histograma com todo o tempo de espera
+ */
+final class OpenLoadGenerator {
+
+    private final HttpClient httpClient;
+
+    OpenLoadGenerator(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Roteiro de uma sessão; uma exceção encerra a sessão como falha
+     */
+    @FunctionalInterface
+    interface SessionScript {
+        void run(Session session) throws Exception;
+    }
+
+    /**
+     * Uma sessão em andamento: cada etapa é cronometrada desde o fim da etapa anterior,
+     * e a primeira desde o horário de chegada planejado
+     */
+    static final class Session {
+        private final int index;
+        private final HttpClient httpClient;
+        private final LoadReport report;
+        private long intendedStart;
+
+        private Session(int index, long intendedStart, HttpClient httpClient, LoadReport report) {
+            this.index = index;
+            this.intendedStart = intendedStart;
+            this.httpClient = httpClient;
+            this.report = report;
+        }
+
+        int index() {
+            return index;
+        }
+
+        /**
+         * Envia a requisição da etapa e falha a sessão se o status for diferente do esperado
+         */
+        <T> HttpResponse<T> send(String step, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                 int expectedStatus) throws Exception {
+            HttpResponse<T> response;
+            try {
+                response = httpClient.send(request, bodyHandler);
+            } catch (Exception e) {
+                finish(step);
+                report.recordError(step);
+                throw e;
+            }
+            finish(step);
+            if (response.statusCode() != expectedStatus) {
+                report.recordError(step);
+                throw new IllegalStateException(step + " retornou " + response.statusCode());
+            }
+            return response;
+        }
+
+        private void finish(String step) {
+            long now = System.nanoTime();
+            report.recordLatency(step, now - intendedStart);
+            intendedStart = now;
+        }
+    }
+
+    /**
+     * Inicia sessões na taxa informada durante o período e espera todas terminarem
+     */
+    void run(double sessionsPerSecond, Duration duration, LoadReport report, SessionScript script) {
+        long total = (long) (sessionsPerSecond * duration.toNanos() / 1e9);
+        double intervalNanos = 1e9 / sessionsPerSecond;
+
+        long start = System.nanoTime();
+        try (ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                long intendedStart = start + (long) (i * intervalNanos);
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Session session = new Session(i, intendedStart, httpClient, report);
+                report.sessionStarted();
+                sessions.execute(() -> {
+                    try {
+                        script.run(session);
+                    } catch (Exception e) {
+                        report.sessionFailed();
+                    }
+                });
+            }
+        }
+        report.finished(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,141 @@
+package com.br.courses.load;
+
+import com.br.courses.diagnostics.VirtualThreadPinningMonitor;
+import com.br.courses.dto.PinningSiteResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compara o modo padrão (pool de platform threads do Tomcat) com o perfil virtual
+ * Sobe a aplicação uma vez em cada modo, com banco e dados idênticos, e dispara
+ * a mesma carga concorrente em dois cenários bloqueantes:
+ * - GET /api/courses/changes: uma consulta JDBC por requisição
+ * - POST /api/auth/login: BCrypt + consulta do usuário
+ * No modo virtual também imprime o relatório de pinning coletado durante a carga
+ * Fora da execução padrão; rode com: mvn test -Dtest.excludedGroups= -Dgroups=load
+ * Ajuste com -Dload.concurrency=..., -Dload.requests=..., -Dload.login-concurrency=...
+ */
+@Tag("load")
+@DisplayName("Virtual threads vs platform threads load comparison")
+class VirtualThreadLoadComparisonTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 1000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requests", 20);
+    private static final int LOGIN_CONCURRENCY = Integer.getInteger("load.login-concurrency", 200);
+    private static final int LOGINS_PER_CLIENT = Integer.getInteger("load.logins", 5);
+    private static final int COURSES = 2000;
+    private static final String USERNAME = LoadTestApplication.username(0);
+
+    private record Result(String mode, String scenario, int requests, int errors, double seconds,
+                          double p50Millis, double p99Millis, double maxMillis) {
+        double throughput() {
+            return requests / seconds;
+        }
+    }
+
+    @Test
+    @DisplayName("Mesma carga nos dois modos de execução")
+    void compareThreadModes() throws Exception {
+        List<Result> results = new ArrayList<>();
+        results.addAll(run("platform", false));
+        results.addAll(run("virtual", true));
+
+        System.out.printf(Locale.ROOT, "%n%-9s %-10s %9s %7s %10s %9s %9s %9s%n",
+                "modo", "cenário", "requests", "erros", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (Result result : results) {
+            System.out.printf(Locale.ROOT, "%-9s %-10s %9d %7d %10.0f %9.2f %9.2f %9.2f%n",
+                    result.mode(), result.scenario(), result.requests(), result.errors(), result.throughput(),
+                    result.p50Millis(), result.p99Millis(), result.maxMillis());
+        }
+
+        assertThat(results).allSatisfy(result -> assertThat(result.errors()).isZero());
+    }
+
+    private List<Result> run(String mode, boolean virtualThreads) throws Exception {
+        String[] profiles = virtualThreads ? new String[]{"virtual"} : new String[0];
+        try (LoadTestApplication app = LoadTestApplication.start(1, COURSES, profiles)) {
+            HttpClient client = app.httpClient();
+            String token = LoadTestApplication.accessToken(
+                    client.send(app.loginRequest(USERNAME), HttpResponse.BodyHandlers.ofString()));
+            Supplier<HttpRequest> changes = () -> HttpRequest.newBuilder(app.uri("/api/courses/changes?limit=50"))
+                    .header("Authorization", "Bearer " + token)
+                    .build();
+            Supplier<HttpRequest> logins = () -> app.loginRequest(USERNAME);
+
+            // Aquecimento do JIT e do pool de conexões antes de medir
+            load(client, mode, "warmup", 50, 20, changes);
+            load(client, mode, "warmup", 10, 2, logins);
+
+            List<Result> results = List.of(
+                    load(client, mode, "jdbc", CONCURRENCY, REQUESTS_PER_CLIENT, changes),
+                    load(client, mode, "login", LOGIN_CONCURRENCY, LOGINS_PER_CLIENT, logins));
+
+            if (virtualThreads) {
+                printPinning(app.bean(VirtualThreadPinningMonitor.class));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Cada cliente é uma virtual thread que envia suas requisições em sequência
+     */
+    private static Result load(HttpClient client, String mode, String scenario, int clients, int requestsPerClient,
+                               Supplier<HttpRequest> request) throws InterruptedException {
+        int total = clients * requestsPerClient;
+        long[] latencies = new long[total];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request.get(), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[next.getAndIncrement()] = System.nanoTime() - sent;
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        return new Result(mode, scenario, total, errors.get(), seconds,
+                latencies[total / 2] / 1e6, latencies[(int) (total * 0.99)] / 1e6, latencies[total - 1] / 1e6);
+    }
+
+    private static void printPinning(VirtualThreadPinningMonitor monitor) throws InterruptedException {
+        // A gravação JFR entrega os eventos em lotes, aproximadamente a cada segundo
+        Thread.sleep(2000);
+        System.out.printf(Locale.ROOT, "%nPinning no modo virtual: %d eventos acima de %d ms%n",
+                monitor.report().events(), monitor.report().thresholdMillis());
+        for (PinningSiteResponse site : monitor.report().sites()) {
+            System.out.printf(Locale.ROOT, "  %6d x  total %9.1f ms  max %7.1f ms  %s%n",
+                    site.count(), site.totalMillis(), site.maxMillis(), site.site());
+        }
+    }
+}
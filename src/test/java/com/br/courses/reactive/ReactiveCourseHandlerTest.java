@@ -0,0 +1,192 @@
+package com.br.courses.reactive;
+
+import com.br.courses.dto.CourseResponse;
+import com.br.courses.dto.CourseSummaryResponse;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.model.Course;
+import com.br.courses.security.JwtTokenProvider;
+import com.br.courses.security.TokenUserResolver;
+import com.br.courses.security.VerifiedToken;
+import com.br.courses.service.CourseSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveCourseHandler Tests")
+class ReactiveCourseHandlerTest {
+
+    private static final String TOKEN = "valid-token";
+
+    @Mock
+    private ReactiveCourseRepository repository;
+
+    @Mock
+    private CourseSearchIndex searchIndex;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private WebTestClient client;
+
+    private Course spring;
+    private Course java;
+
+    @BeforeEach
+    void setUp() {
+        ReactiveCourseHandler handler = new ReactiveCourseHandler(repository, searchIndex, new CourseMapper(), 16);
+        client = WebTestClient.bindToRouterFunction(new ReactiveServerConfig().reactiveCourseRoutes(
+                        handler, jwtTokenProvider, new TokenUserResolver(userDetailsService, true)))
+                .configureClient()
+                .defaultHeader("Authorization", "Bearer " + TOKEN)
+                .build();
+        lenient().when(jwtTokenProvider.verify(TOKEN)).thenReturn(Optional.of(
+                new VerifiedToken("user", Instant.now().plusSeconds(3600), VerifiedToken.TokenType.ACCESS,
+                        List.of("ROLE_USER"), true)));
+
+        spring = course(1L, "Spring Boot");
+        java = course(2L, "Java");
+    }
+
+    @Test
+    @DisplayName("Deve listar resumos como array JSON")
+    void shouldListSummaries() {
+        when(repository.findAllSummaries()).thenReturn(Flux.just(
+                new CourseSummaryResponse(1L, "Spring Boot", "Backend", 40, 0L),
+                new CourseSummaryResponse(2L, "Java", "Backend", 40, 0L)));
+
+        client.get().uri("/api/courses").exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBodyList(CourseSummaryResponse.class).hasSize(2);
+
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve transmitir cursos completos em NDJSON quando solicitado")
+    void shouldStreamNdjson() {
+        when(repository.findAll()).thenReturn(Flux.just(spring, java));
+
+        List<CourseResponse> courses = client.get().uri("/api/courses?includeDescription=true")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(CourseResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(courses).extracting(CourseResponse::id).containsExactly(1L, 2L);
+        assertThat(courses.get(0).description()).isEqualTo("Descrição de Spring Boot");
+    }
+
+    @Test
+    @DisplayName("Deve buscar curso por ID e retornar 404 quando não existir")
+    void shouldFindById() {
+        when(repository.findById(1L)).thenReturn(Mono.just(spring));
+        when(repository.findById(99L)).thenReturn(Mono.empty());
+
+        client.get().uri("/api/courses/1").exchange()
+                .expectStatus().isOk()
+                .expectBody(CourseResponse.class).value(course -> assertThat(course.title()).isEqualTo("Spring Boot"));
+        client.get().uri("/api/courses/99").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").isEqualTo("Curso não encontrado com id: 99");
+        client.get().uri("/api/courses/abc").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem de relevância do índice na busca")
+    void shouldKeepSearchRanking() {
+        when(searchIndex.search("java", 10)).thenReturn(List.of(
+                new CourseSearchIndex.SearchHit(2L, 3.0),
+                new CourseSearchIndex.SearchHit(1L, 1.0)));
+        when(repository.findAllById(List.of(2L, 1L))).thenReturn(Flux.just(spring, java));
+
+        client.get().uri("/api/courses/search?q=java").exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CourseSummaryResponse.class)
+                .value(results -> assertThat(results).extracting(CourseSummaryResponse::id).containsExactly(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve exigir o parâmetro q na busca")
+    void shouldRequireSearchQuery() {
+        client.get().uri("/api/courses/search").exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    @DisplayName("Deve recusar requisições sem token válido")
+    void shouldRejectInvalidToken() {
+        when(jwtTokenProvider.verify(anyString())).thenReturn(Optional.empty());
+
+        client.get().uri("/api/courses").header("Authorization", "Bearer other").exchange()
+                .expectStatus().isUnauthorized();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar token cujas claims indicam usuário desativado")
+    void shouldRejectDisabledUserClaim() {
+        when(jwtTokenProvider.verify("disabled")).thenReturn(Optional.of(
+                new VerifiedToken("user", Instant.now().plusSeconds(3600), VerifiedToken.TokenType.ACCESS,
+                        List.of("ROLE_USER"), false)));
+
+        client.get().uri("/api/courses").header("Authorization", "Bearer disabled").exchange()
+                .expectStatus().isUnauthorized();
+
+        verifyNoInteractions(repository, userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Deve carregar o usuário de tokens sem claims e recusar quando estiver desativado")
+    void shouldFallBackToUserDetailsServiceForLegacyTokens() {
+        when(jwtTokenProvider.verify("legacy")).thenReturn(Optional.of(
+                new VerifiedToken("user", Instant.now().plusSeconds(3600), VerifiedToken.TokenType.ACCESS)));
+        when(userDetailsService.loadUserByUsername("user")).thenReturn(
+                User.withUsername("user").password("").authorities("ROLE_USER").disabled(true).build());
+
+        client.get().uri("/api/courses").header("Authorization", "Bearer legacy").exchange()
+                .expectStatus().isUnauthorized();
+
+        verifyNoInteractions(repository);
+    }
+
+    private static Course course(Long id, String title) {
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle(title);
+        course.setDescription("Descrição de " + title);
+        course.setCategory("Backend");
+        course.setDuration(40);
+        course.setVersion(0L);
+        return course;
+    }
+}
@@ -0,0 +1,75 @@
+package com.br.courses.reactive;
+
+import com.br.courses.dto.CourseResponse;
+import com.br.courses.model.Course;
+import com.br.courses.repository.CourseRepository;
+import com.br.courses.security.JwtTokenProvider;
+import io.r2dbc.pool.ConnectionPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * O perfil reactive precisa subir as duas pilhas: JPA sobre o DataSource e o Reactor Netty sobre R2DBC
+ * Um curso gravado pelo JPA deve ser lido pela API reativa no mesmo banco
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "app.reactive.port=0"})
+@ActiveProfiles("reactive")
+@DisplayName("Reactive profile startup")
+class ReactiveProfileStartupTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CourseRepository repository;
+
+    @Autowired
+    private ReactiveCourseServer server;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    @DisplayName("Deve subir JPA e o servidor reativo sobre o mesmo banco")
+    void shouldStartJpaAndReactiveServer() {
+        // Arrange
+        Course course = new Course();
+        course.setTitle("Spring WebFlux");
+        course.setDescription("Leituras reativas do catálogo");
+        course.setCategory("Backend");
+        course.setDuration(12);
+        Long id = repository.save(course).getId();
+
+        UserDetails user = User.withUsername("reactive").password("").authorities("ROLE_USER").build();
+        String token = jwtTokenProvider.generateAccessToken(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+
+        // Act & Assert
+        assertThat(dataSource).isNotNull();
+        assertThat(server.isRunning()).isTrue();
+        assertThat(databaseClient.getConnectionFactory()).isInstanceOf(ConnectionPool.class);
+        WebTestClient.bindToServer().baseUrl("http://localhost:" + server.port()).build()
+                .get().uri("/api/courses/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CourseResponse.class)
+                .value(response -> assertThat(response.title()).isEqualTo("Spring WebFlux"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.br.courses.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ChangeVersionAllocator Tests")
+class ChangeVersionAllocatorTest {
+
+    private final ChangeVersionAllocator allocator = new ChangeVersionAllocator();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(allocator);
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir da versão informada na inicialização")
+    void shouldContinueAfterAdvance() {
+        allocator.advanceTo(41L);
+
+        assertThat(allocator.next()).isEqualTo(42L);
+        assertThat(allocator.stableWatermark()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Deve manter a marca estável abaixo de versões de transações em andamento")
+    void shouldHoldWatermarkUntilTransactionCompletes() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        long first = allocator.next();
+        long second = allocator.next();
+
+        // Assert: nenhuma das duas versões pode ser entregue enquanto a transação não termina
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(allocator.stableWatermark()).isEqualTo(first - 1);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Assert
+        assertThat(allocator.stableWatermark()).isEqualTo(second);
+    }
+}
@@ -0,0 +1,160 @@
+package com.br.courses.repository;
+
+import com.br.courses.benchmark.Benchmarks;
+import com.br.courses.dto.CourseFilter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark do filtro de cursos sobre uma tabela com 1M de linhas
+ * Mostra o plano de execução do H2 para cada combinação de filtros e a latência
+ * da consulta Criteria do CourseRepository (p50/p99 de uma página de 20 itens)
+ * Divide o contexto (e o banco H2) com os demais testes: ids e versões de mudança são reservados
+ * acima da sequence e do ChangeVersionAllocator, e as linhas são removidas ao final
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("CourseRepository filter benchmark")
+class CourseFilterBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int INSERT_BATCH = 10_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+    private static final String[] CATEGORIES = {
+            "Backend", "Frontend", "Dados", "DevOps", "Mobile", "Segurança", "Cloud", "IA", "Testes", "Arquitetura",
+            "Redes", "Design", "Gestão", "Games", "Embarcados", "Blockchain", "QA", "UX", "SRE", "Carreira"
+    };
+
+    @Autowired
+    private CourseRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChangeVersionAllocator changeVersions;
+
+    /** primeiro id inserido; os ids seguintes até firstId + ROWS ficam reservados */
+    private long firstId;
+
+    @BeforeAll
+    void populate() {
+        // Acima de qualquer id já entregue pela sequence, inclusive o bloco em memória do Hibernate (allocationSize)
+        firstId = jdbcTemplate.queryForObject("select next value for course_seq", Long.class) + 1;
+        // O pooled optimizer entrega os ids abaixo do valor lido; a sequence recomeça depois do intervalo reservado
+        jdbcTemplate.execute("alter sequence course_seq restart with " + (firstId + ROWS + 100));
+        long firstChangeVersion = changeVersions.next();
+        changeVersions.advanceTo(firstChangeVersion + ROWS);
+
+        Benchmarks.populate(ROWS, "cursos inseridos", () -> {
+            for (int from = 0; from < ROWS; from += INSERT_BATCH) {
+                List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+                for (int i = from; i < from + INSERT_BATCH && i < ROWS; i++) {
+                    rows.add(new Object[]{
+                            firstId + i,
+                            "Curso de " + Benchmarks.TOPICS[i % Benchmarks.TOPICS.length] + " " + i,
+                            "Descrição do curso " + i,
+                            CATEGORIES[i % CATEGORIES.length],
+                            1 + (int) ((i * 7919L) % 200),
+                            firstChangeVersion + i
+                    });
+                }
+                jdbcTemplate.batchUpdate(
+                        "insert into course (id, title, description, category, duration, change_version, version) values (?, ?, ?, ?, ?, ?, 0)",
+                        rows);
+            }
+            jdbcTemplate.execute("analyze");
+        });
+    }
+
+    /**
+     * As linhas entraram por JDBC, sem eventos: índices em memória do contexto nunca as viram
+     */
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from course where id >= ? and id < ?", firstId, firstId + ROWS);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @Test
+    @DisplayName("Categoria + faixa de duração usa o índice composto")
+    void categoryAndDurationRange() {
+        String plan = run("categoria + faixa de duração, ordenado por duração",
+                new CourseFilter("Backend", null, 20, 40, null), Sort.by("duration"),
+                "where category = 'Backend' and duration between 20 and 40 order by duration, id");
+
+        assertThat(plan).containsIgnoringCase("IDX_COURSE_CATEGORY_DURATION");
+    }
+
+    @Test
+    @DisplayName("Somente categoria usa o prefixo do índice composto")
+    void categoryOnly() {
+        String plan = run("somente categoria, ordenado por id",
+                new CourseFilter("Dados", null, null, null, null), Sort.by("id"),
+                "where category = 'Dados' order by id");
+
+        assertThat(plan).containsIgnoringCase("IDX_COURSE_CATEGORY_DURATION");
+    }
+
+    @Test
+    @DisplayName("Somente faixa de duração usa o índice de duração")
+    void durationRangeOnly() {
+        String plan = run("somente faixa de duração, ordenado por duração desc",
+                new CourseFilter(null, null, 190, 200, null), Sort.by(Sort.Direction.DESC, "duration"),
+                "where duration between 190 and 200 order by duration desc, id");
+
+        assertThat(plan).containsIgnoringCase("IDX_COURSE_DURATION");
+    }
+
+    @Test
+    @DisplayName("Trecho do título combinado com categoria restringe a varredura pela categoria")
+    void categoryAndTitle() {
+        String plan = run("categoria + trecho do título",
+                new CourseFilter("DevOps", null, null, null, "docker"), Sort.by("title"),
+                "where category = 'DevOps' and lower(title) like '%docker%' order by title, id");
+
+        assertThat(plan).containsIgnoringCase("IDX_COURSE_CATEGORY_DURATION");
+    }
+
+    @Test
+    @DisplayName("Somente trecho do título (LIKE com curinga inicial) faz varredura completa")
+    void titleOnly() {
+        run("somente trecho do título (varredura completa esperada)",
+                new CourseFilter(null, null, null, null, "kotlin 99"), Sort.by("id"),
+                "where lower(title) like '%kotlin 99%' order by id");
+    }
+
+    /**
+     * Imprime o plano do H2 para o SQL equivalente e mede a consulta Criteria do repositório
+     */
+    private String run(String scenario, CourseFilter filter, Sort sort, String sqlSuffix) {
+        String plan = jdbcTemplate.queryForObject(
+                "explain select id, title, category, duration, version from course " + sqlSuffix + " limit 20",
+                String.class);
+
+        Sort stable = sort.getOrderFor("id") == null ? sort.and(Sort.by("id")) : sort;
+        PageRequest page = PageRequest.of(0, 20, stable);
+        Benchmarks.Latency latency = Benchmarks.measure(WARMUP, ITERATIONS,
+                () -> repository.findSummaries(filter, page).size());
+
+        System.out.printf(Locale.ROOT, "%n== %s ==%n%s%n%s%n", scenario, plan, latency);
+        return plan;
+    }
+}
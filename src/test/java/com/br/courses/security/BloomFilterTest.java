@@ -0,0 +1,56 @@
+package com.br.courses.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BloomFilter Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Nunca deve dar falso negativo para valores inseridos")
+    void shouldContainEveryInsertedValue() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        var values = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        values.forEach(filter::put);
+
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falsos positivos próxima da configurada")
+    void shouldRespectFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("revoked-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other-" + i))
+                .count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("Deve dimensionar bits e funções de hash pela capacidade e taxa")
+    void shouldSizeFromCapacityAndRate() {
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+
+        // ~9,6 bits por elemento e 7 funções de hash para 1%
+        assertThat(filter.bitCount()).isBetween(958_000L, 959_000L);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Deve recusar taxa de falsos positivos fora de (0, 1)")
+    void shouldRejectInvalidRate() {
+        assertThatThrownBy(() -> new BloomFilter(100, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
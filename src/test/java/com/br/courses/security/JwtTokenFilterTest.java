@@ -0,0 +1,139 @@
+package com.br.courses.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtTokenFilter Tests")
+class JwtTokenFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtTokenFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtTokenFilter(jwtTokenProvider, new TokenUserResolver(userDetailsService, true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve autenticar pelas claims do token, verificado uma única vez e sem consultar o usuário")
+    void shouldAuthenticateFromClaims() throws Exception {
+        when(jwtTokenProvider.verify("token")).thenReturn(Optional.of(
+                new VerifiedToken("joao", Instant.now().plusSeconds(3600), VerifiedToken.TokenType.ACCESS,
+                        List.of("ROLE_ADMIN"), true)));
+
+        filter.doFilter(request("/api/courses", "token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getName()).isEqualTo("joao");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        verify(jwtTokenProvider, times(1)).verify("token");
+        verifyNoMoreInteractions(jwtTokenProvider);
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Não deve autenticar quando o token indica usuário desativado")
+    void shouldIgnoreDisabledUserClaim() throws Exception {
+        when(jwtTokenProvider.verify("token")).thenReturn(Optional.of(
+                new VerifiedToken("joao", Instant.now().plusSeconds(3600), VerifiedToken.TokenType.ACCESS,
+                        List.of("ROLE_USER"), false)));
+
+        filter.doFilter(request("/api/courses", "token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Deve carregar o usuário do banco para tokens sem claims de papéis")
+    void shouldFallBackToUserDetailsServiceForLegacyTokens() throws Exception {
+        when(jwtTokenProvider.verify("token")).thenReturn(Optional.of(verified(VerifiedToken.TokenType.ACCESS)));
+        when(userDetailsService.loadUserByUsername("joao"))
+                .thenReturn(User.withUsername("joao").password("x").roles("USER").build());
+
+        filter.doFilter(request("/api/courses", "token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("joao");
+        verify(userDetailsService).loadUserByUsername("joao");
+    }
+
+    @Test
+    @DisplayName("Deve carregar o usuário mesmo com claims quando trust-token-claims está desligado")
+    void shouldLoadUserWhenClaimsAreNotTrusted() throws Exception {
+        filter = new JwtTokenFilter(jwtTokenProvider, new TokenUserResolver(userDetailsService, false));
+        when(jwtTokenProvider.verify("token")).thenReturn(Optional.of(
+                new VerifiedToken("joao", Instant.now().plusSeconds(3600), VerifiedToken.TokenType.ACCESS,
+                        List.of("ROLE_ADMIN"), true)));
+        when(userDetailsService.loadUserByUsername("joao"))
+                .thenReturn(User.withUsername("joao").password("x").disabled(true).roles("ADMIN").build());
+
+        filter.doFilter(request("/api/courses", "token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userDetailsService).loadUserByUsername("joao");
+    }
+
+    @Test
+    @DisplayName("Não deve autenticar com refresh token")
+    void shouldIgnoreRefreshToken() throws Exception {
+        when(jwtTokenProvider.verify("token")).thenReturn(Optional.of(verified(VerifiedToken.TokenType.REFRESH)));
+
+        filter.doFilter(request("/api/courses", "token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Não deve verificar tokens em rotas públicas")
+    void shouldSkipPublicRoutes() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/api/auth/login", "token"), new MockHttpServletResponse(), chain);
+        filter.doFilter(request("/swagger-ui/index.html", "token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(chain.getRequest()).isNotNull();
+        verifyNoInteractions(jwtTokenProvider, userDetailsService);
+    }
+
+    private static MockHttpServletRequest request(String uri, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static VerifiedToken verified(VerifiedToken.TokenType type) {
+        return new VerifiedToken("joao", Instant.now().plusSeconds(3600), type);
+    }
+}
@@ -0,0 +1,166 @@
+package com.br.courses.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JwtTokenProvider Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "mySuperSecureSecretKeyThatIsAtLeast256BitsLongForHS512AlgorithmUsingJJWT123456789";
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Deve verificar um access token e retornar subject, expiração e tipo")
+    void shouldVerifyAccessToken() {
+        String token = tokenProvider.generateAccessToken(new UsernamePasswordAuthenticationToken("joao", null));
+
+        Optional<VerifiedToken> verified = tokenProvider.verify(token);
+
+        assertThat(verified).hasValueSatisfying(result -> {
+            assertThat(result.subject()).isEqualTo("joao");
+            assertThat(result.type()).isEqualTo(VerifiedToken.TokenType.ACCESS);
+            assertThat(result.expiresAt()).isAfter(new Date().toInstant());
+        });
+    }
+
+    @Test
+    @DisplayName("Deve levar papéis e situação do usuário no access token")
+    void shouldCarryUserClaimsInAccessToken() {
+        UserDetails user = User.withUsername("joao").password("x").roles("ADMIN").build();
+        String token = tokenProvider.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        VerifiedToken verified = tokenProvider.verify(token).orElseThrow();
+
+        assertThat(verified.hasUserClaims()).isTrue();
+        assertThat(verified.roles()).containsExactly("ROLE_ADMIN");
+        assertThat(verified.enabled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Tokens sem as claims de papéis não trazem dados do usuário")
+    void shouldReportMissingUserClaims() {
+        String token = Jwts.builder()
+                .setSubject("joao")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+
+        VerifiedToken verified = tokenProvider.verify(token).orElseThrow();
+
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.hasUserClaims()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve identificar refresh tokens pela claim type")
+    void shouldVerifyRefreshToken() {
+        String token = tokenProvider.generateRefreshToken("joao");
+
+        assertThat(tokenProvider.verify(token)).hasValueSatisfying(result -> {
+            assertThat(result.isRefreshToken()).isTrue();
+            assertThat(result.isAccessToken()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Refresh tokens devem ter jti único e manter a família na rotação")
+    void shouldIssueRotatableRefreshTokens() {
+        VerifiedToken first = tokenProvider.verify(tokenProvider.generateRefreshToken("joao")).orElseThrow();
+        VerifiedToken rotated = tokenProvider.verify(tokenProvider.generateRefreshToken("joao", first.family())).orElseThrow();
+        VerifiedToken otherLogin = tokenProvider.verify(tokenProvider.generateRefreshToken("joao")).orElseThrow();
+
+        assertThat(first.isRotatable()).isTrue();
+        assertThat(rotated.family()).isEqualTo(first.family());
+        assertThat(rotated.id()).isNotEqualTo(first.id());
+        assertThat(otherLogin.family()).isNotEqualTo(first.family());
+    }
+
+    @Test
+    @DisplayName("Access tokens não devem ser aceitos como refresh rotacionável")
+    void shouldNotTreatAccessTokenAsRotatable() {
+        String token = tokenProvider.generateAccessToken(new UsernamePasswordAuthenticationToken("joao", null));
+
+        assertThat(tokenProvider.verify(token)).hasValueSatisfying(result ->
+                assertThat(result.isRotatable()).isFalse());
+    }
+
+    @Test
+    @DisplayName("Deve verificar de novo um token removido do cache")
+    void shouldReverifyEvictedToken() {
+        String token = tokenProvider.generateRefreshToken("joao");
+        VerifiedToken first = tokenProvider.verify(token).orElseThrow();
+
+        tokenProvider.evict(token);
+
+        assertThat(tokenProvider.verify(token).orElseThrow()).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Deve responder a segunda verificação do mesmo token pelo cache")
+    void shouldCacheVerifiedTokens() {
+        String token = tokenProvider.generateAccessToken(new UsernamePasswordAuthenticationToken("joao", null));
+
+        VerifiedToken first = tokenProvider.verify(token).orElseThrow();
+        VerifiedToken second = tokenProvider.verify(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Não deve cachear quando o cache está desativado")
+    void shouldNotCacheWhenDisabled() {
+        JwtTokenProvider uncached = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L, 0, Duration.ofMinutes(5));
+        String token = uncached.generateAccessToken(new UsernamePasswordAuthenticationToken("joao", null));
+
+        VerifiedToken first = uncached.verify(token).orElseThrow();
+        VerifiedToken second = uncached.verify(token).orElseThrow();
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Deve recusar tokens com assinatura de outra chave")
+    void shouldRejectForeignSignature() {
+        String token = Jwts.builder()
+                .setSubject("joao")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.replace('m', 'x').getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+
+        assertThat(tokenProvider.verify(token)).isEmpty();
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve recusar tokens expirados, vazios ou malformados")
+    void shouldRejectExpiredAndMalformedTokens() {
+        JwtTokenProvider expiring = new JwtTokenProvider(SECRET, -1_000L, 604_800_000L, 100, Duration.ofMinutes(5));
+        String expired = expiring.generateAccessToken(new UsernamePasswordAuthenticationToken("joao", null));
+
+        assertThat(tokenProvider.verify(expired)).isEmpty();
+        assertThat(tokenProvider.verify("")).isEmpty();
+        assertThat(tokenProvider.verify(null)).isEmpty();
+        assertThat(tokenProvider.verify("nao.e.jwt")).isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package com.br.courses.security;
+
+import com.br.courses.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationStore Tests")
+class TokenRevocationStoreTest {
+
+    @Mock
+    private RevokedTokenRepository repository;
+
+    @Mock
+    private ScheduledExecutorService compactor;
+
+    private TokenRevocationStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new TokenRevocationStore(repository, 1_000, 0.01, Duration.ofDays(7), Duration.ofHours(1), compactor);
+    }
+
+    @Test
+    @DisplayName("Deve responder \"não revogado\" pelo Bloom filter, sem consultar o banco")
+    void shouldAnswerNotRevokedWithoutDatabase() {
+        assertThat(store.isTokenRevoked("abc")).isFalse();
+        assertThat(store.isFamilyRevoked("family-1")).isFalse();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve confirmar no banco quando o Bloom filter indica possível revogação")
+    void shouldConfirmPossibleRevocationInDatabase() {
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        when(repository.existsById("jti:abc")).thenReturn(true);
+
+        assertThat(store.revokeToken("abc", expiresAt)).isTrue();
+
+        assertThat(store.isTokenRevoked("abc")).isTrue();
+        verify(repository).insert(eq("jti:abc"), eq(expiresAt), any(Instant.class));
+        verify(repository).existsById("jti:abc");
+    }
+
+    @Test
+    @DisplayName("Deve indicar reuso quando o token já estava revogado")
+    void shouldDetectReuseOnDuplicateInsert() {
+        when(repository.insert(eq("jti:abc"), any(Instant.class), any(Instant.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThat(store.revokeToken("abc", Instant.now().plusSeconds(3600))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve revogar a família pelo prazo do refresh token")
+    void shouldRevokeFamilyForRefreshLifetime() {
+        Instant before = Instant.now().plus(Duration.ofDays(7));
+
+        store.revokeFamily("family-1");
+
+        verify(repository).insert(eq("family:family-1"),
+                argThat(expiresAt -> !expiresAt.isBefore(before)), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Deve carregar o filtro do banco e agendar a compactação na inicialização")
+    void shouldLoadFilterAndScheduleCompaction() {
+        when(repository.findAllIds()).thenReturn(List.of("jti:persisted"));
+        when(repository.existsById("jti:persisted")).thenReturn(true);
+
+        store.afterSingletonsInstantiated();
+
+        assertThat(store.isTokenRevoked("persisted")).isTrue();
+        verify(compactor).scheduleWithFixedDelay(any(Runnable.class), eq(3_600_000L), eq(3_600_000L), any());
+    }
+
+    @Test
+    @DisplayName("Deve remover linhas expiradas e reconstruir o filtro só com as restantes")
+    void shouldCompactAndRebuildFilter() {
+        store.revokeToken("expired", Instant.now().minusSeconds(1));
+        when(repository.deleteExpired(any(Instant.class))).thenReturn(1);
+        when(repository.findAllIds()).thenReturn(List.of());
+
+        int deleted = store.compact();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(store.isTokenRevoked("expired")).isFalse();
+        verify(repository, never()).existsById(anyString());
+    }
+}
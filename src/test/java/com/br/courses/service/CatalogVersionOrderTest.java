@@ -0,0 +1,84 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CategoryFacetResponse;
+import com.br.courses.dto.CourseSuggestionResponse;
+import com.br.courses.model.Course;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * A versão do catálogo só pode avançar depois que cache, índice de busca, sugestões e facetas
+ * aplicaram o evento; senão uma resposta montada no intervalo ficaria em cache sob a versão nova
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DisplayName("CatalogVersion listener order")
+class CatalogVersionOrderTest {
+
+    private static final String CATEGORY = "Ordenação";
+
+    @MockitoSpyBean
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseCache courseCache;
+
+    @Autowired
+    private CourseSearchIndex searchIndex;
+
+    @Autowired
+    private CourseTitleSuggester titleSuggester;
+
+    @Autowired
+    private CourseFacetAggregate facetAggregate;
+
+    @Test
+    @DisplayName("Estruturas derivadas já refletem criação e remoção quando a versão avança")
+    void derivedStateIsUpdatedBeforeVersionBump() {
+        List<String> observed = new ArrayList<>();
+        doAnswer(invocation -> {
+            CourseChangedEvent event = invocation.getArgument(0);
+            observed.add(event.type() + ":" + describeDerivedState(event.courseId()));
+            return invocation.callRealMethod();
+        }).when(catalogVersion).onCourseChanged(any());
+
+        Course course = new Course();
+        course.setTitle("Zzordenacao de eventos");
+        course.setDescription("Curso usado para verificar a ordem dos listeners");
+        course.setCategory(CATEGORY);
+        course.setDuration(12);
+        Long id = courseService.save(course).getId();
+        courseCache.get(id);
+        courseService.delete(id);
+
+        assertThat(observed).containsExactly(
+                "CREATED:search=true,suggest=true,facet=1,cached=false",
+                "DELETED:search=false,suggest=false,facet=0,cached=false");
+    }
+
+    private String describeDerivedState(Long courseId) {
+        boolean inSearch = searchIndex.search("zzordenacao", 10).stream()
+                .anyMatch(hit -> hit.courseId().equals(courseId));
+        boolean inSuggestions = titleSuggester.suggest("zzordenacao", 10).stream()
+                .map(CourseSuggestionResponse::id)
+                .anyMatch(courseId::equals);
+        long facet = facetAggregate.snapshot().categories().stream()
+                .filter(category -> CATEGORY.equals(category.category()))
+                .mapToLong(CategoryFacetResponse::courses)
+                .sum();
+        boolean cached = courseCache.getIfPresent(courseId) != null;
+        return "search=" + inSearch + ",suggest=" + inSuggestions + ",facet=" + facet + ",cached=" + cached;
+    }
+}
@@ -0,0 +1,173 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CourseBatchItemResult;
+import com.br.courses.dto.CourseRequest;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.model.Course;
+import com.br.courses.repository.CourseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourseBatchService Tests")
+class CourseBatchServiceTest {
+
+    @Mock
+    private CourseRepository repository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CourseBatchService batchService;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        batchService = new CourseBatchService(repository, new CourseMapper(), validator,
+                entityManager, transactionTemplate, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve criar os itens válidos e apontar os inválidos pelo índice")
+    void shouldReportResultPerItem() {
+        // Arrange
+        runTransactionsInline();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        List<CourseRequest> requests = Arrays.asList(
+                new CourseRequest("Java", "Fundamentos de Java", "Backend", 30),
+                new CourseRequest("", "Sem título", "Backend", 10),
+                null,
+                new CourseRequest("SQL", "Banco de dados", "Dados", 20));
+
+        // Act
+        List<CourseBatchItemResult> results = batchService.createAll(requests);
+
+        // Assert
+        assertThat(results).extracting(CourseBatchItemResult::status).containsExactly(
+                CourseBatchItemResult.Status.CREATED,
+                CourseBatchItemResult.Status.INVALID,
+                CourseBatchItemResult.Status.INVALID,
+                CourseBatchItemResult.Status.CREATED);
+        assertThat(results.get(1).errors()).extracting("field").containsExactly("title");
+        assertThat(results.get(3).course().title()).isEqualTo("SQL");
+        verify(repository, times(1)).saveAll(anyList());
+        verify(eventPublisher, times(1)).publishEvent(any(CoursesBulkChangedEvent.class));
+        verify(eventPublisher, never()).publishEvent(any(CourseChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve validar também as restrições da entidade")
+    void shouldValidateEntityConstraints() {
+        // Act
+        List<CourseBatchItemResult> results = batchService.createAll(List.of(
+                new CourseRequest("A".repeat(201), "Descrição", "Backend", 10)));
+
+        // Assert
+        assertThat(results.get(0).status()).isEqualTo(CourseBatchItemResult.Status.INVALID);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve persistir em blocos de tamanho fixo")
+    void shouldPersistInChunks() {
+        // Arrange
+        runTransactionsInline();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        List<CourseRequest> requests = IntStream.range(0, CourseBatchService.CHUNK_SIZE + 1)
+                .mapToObj(i -> new CourseRequest("Curso " + i, "Descrição", "Backend", 10))
+                .toList();
+
+        // Act
+        List<CourseBatchItemResult> results = batchService.createAll(requests);
+
+        // Assert
+        assertThat(results).allMatch(result -> result.status() == CourseBatchItemResult.Status.CREATED);
+        verify(repository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("Deve publicar um único evento em massa por bloco, com os cursos criados")
+    void shouldPublishOneBulkEventPerChunk() {
+        // Arrange
+        runTransactionsInline();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        List<CourseRequest> requests = IntStream.range(0, CourseBatchService.CHUNK_SIZE + 1)
+                .mapToObj(i -> new CourseRequest("Curso " + i, "Descrição", "Backend", 10))
+                .toList();
+        ArgumentCaptor<CoursesBulkChangedEvent> events = ArgumentCaptor.forClass(CoursesBulkChangedEvent.class);
+
+        // Act
+        batchService.createAll(requests);
+
+        // Assert
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).allMatch(event -> event.type() == CoursesBulkChangedEvent.Type.CREATED);
+        assertThat(events.getAllValues()).extracting(event -> event.courses().size())
+                .containsExactly(CourseBatchService.CHUNK_SIZE, 1);
+        assertThat(events.getAllValues().get(1).courseIds()).containsExactly((long) CourseBatchService.CHUNK_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("Deve marcar o bloco como falho quando a transação falha")
+    void shouldMarkChunkAsFailed() {
+        // Arrange
+        when(transactionTemplate.execute(any())).thenThrow(new DataIntegrityViolationException("duplicado"));
+
+        // Act
+        List<CourseBatchItemResult> results = batchService.createAll(List.of(
+                new CourseRequest("Java", "Fundamentos de Java", "Backend", 30)));
+
+        // Assert
+        assertThat(results.get(0).status()).isEqualTo(CourseBatchItemResult.Status.FAILED);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    private List<Course> assignIds(List<Course> courses) {
+        List<Course> saved = new ArrayList<>();
+        for (Course course : courses) {
+            course.setId(sequence.incrementAndGet());
+            course.setVersion(0L);
+            saved.add(course);
+        }
+        return saved;
+    }
+}
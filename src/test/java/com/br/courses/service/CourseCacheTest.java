@@ -0,0 +1,113 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CourseResponse;
+import com.br.courses.exception.ItemNotFoundException;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.model.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourseCache Tests")
+class CourseCacheTest {
+
+    @Mock
+    private CourseService courseService;
+
+    private CourseCache courseCache;
+
+    private Course testCourse;
+
+    @BeforeEach
+    void setUp() {
+        courseCache = new CourseCache(courseService, new CourseMapper(), 100, Duration.ofMinutes(10));
+
+        testCourse = new Course();
+        testCourse.setId(1L);
+        testCourse.setTitle("Spring Boot Fundamentals");
+        testCourse.setDescription("Aprenda os fundamentos do Spring Boot");
+        testCourse.setCategory("Backend");
+        testCourse.setDuration(40);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco apenas no primeiro acesso")
+    void shouldLoadOnlyOnce() {
+        when(courseService.find(1L)).thenReturn(testCourse);
+
+        CourseResponse first = courseCache.get(1L);
+        CourseResponse second = courseCache.get(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(courseCache.stats().hitCount()).isEqualTo(1);
+        assertThat(courseCache.stats().missCount()).isEqualTo(1);
+        verify(courseService, times(1)).find(1L);
+    }
+
+    @Test
+    @DisplayName("Deve executar uma única consulta para misses concorrentes do mesmo id")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        when(courseService.find(1L)).thenAnswer(invocation -> {
+            loading.await();
+            return testCourse;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CourseResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> courseCache.get(1L)));
+            }
+            Thread.sleep(50);
+            loading.countDown();
+
+            for (Future<CourseResponse> result : results) {
+                assertThat(result.get().id()).isEqualTo(1L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(courseService, times(1)).find(1L);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o curso após atualização")
+    void shouldInvalidateOnUpdate() {
+        when(courseService.find(1L)).thenReturn(testCourse);
+        courseCache.get(1L);
+
+        courseCache.onCourseChanged(CourseChangedEvent.updated(testCourse, testCourse));
+        courseCache.get(1L);
+
+        verify(courseService, times(2)).find(1L);
+    }
+
+    @Test
+    @DisplayName("Não deve cachear cursos inexistentes")
+    void shouldNotCacheMissingCourse() {
+        when(courseService.find(999L)).thenThrow(new ItemNotFoundException("Curso não encontrado com id: 999"));
+
+        assertThatThrownBy(() -> courseCache.get(999L)).isInstanceOf(ItemNotFoundException.class);
+        assertThatThrownBy(() -> courseCache.get(999L)).isInstanceOf(ItemNotFoundException.class);
+
+        assertThat(courseCache.stats().loadFailureCount()).isEqualTo(2);
+        verify(courseService, times(2)).find(999L);
+    }
+}
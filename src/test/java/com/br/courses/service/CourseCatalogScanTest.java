@@ -0,0 +1,66 @@
+package com.br.courses.service;
+
+import com.br.courses.model.Course;
+import com.br.courses.repository.CourseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourseCatalogScan Tests")
+class CourseCatalogScanTest {
+
+    @Mock
+    private CourseRepository repository;
+
+    @Test
+    @DisplayName("Deve paginar pelo último id até uma página incompleta")
+    void shouldPageByLastId() {
+        // Arrange
+        Limit page = Limit.of(CourseCatalogScan.PAGE_SIZE);
+        when(repository.findByIdGreaterThanOrderByIdAsc(0L, page)).thenReturn(courses(1, CourseCatalogScan.PAGE_SIZE));
+        when(repository.findByIdGreaterThanOrderByIdAsc((long) CourseCatalogScan.PAGE_SIZE, page))
+                .thenReturn(courses(CourseCatalogScan.PAGE_SIZE + 1, CourseCatalogScan.PAGE_SIZE + 2));
+        List<Long> visited = new ArrayList<>();
+
+        // Act
+        CourseCatalogScan.rebuild(repository, course -> visited.add(course.getId()), "Índice", visited::size);
+
+        // Assert
+        assertThat(visited).hasSize(CourseCatalogScan.PAGE_SIZE + 2).isSorted();
+        verify(repository, times(2)).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve encerrar com catálogo vazio")
+    void shouldStopOnEmptyCatalog() {
+        // Arrange
+        when(repository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(CourseCatalogScan.PAGE_SIZE))).thenReturn(List.of());
+        List<Long> visited = new ArrayList<>();
+
+        // Act
+        CourseCatalogScan.rebuild(repository, course -> visited.add(course.getId()), "Índice", visited::size);
+
+        // Assert
+        assertThat(visited).isEmpty();
+        verify(repository, times(1)).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    private static List<Course> courses(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId).mapToObj(id -> {
+            Course course = new Course();
+            course.setId(id);
+            return course;
+        }).toList();
+    }
+}
@@ -0,0 +1,222 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CategoryFacetResponse;
+import com.br.courses.dto.CourseFacetsResponse;
+import com.br.courses.model.Course;
+import com.br.courses.repository.CategoryTotals;
+import com.br.courses.repository.ChangeVersionAllocator;
+import com.br.courses.repository.CourseChangeVersion;
+import com.br.courses.repository.CourseRepository;
+import com.br.courses.repository.CourseTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourseFacetAggregate Tests")
+class CourseFacetAggregateTest {
+
+    @Mock
+    private CourseRepository repository;
+
+    @Mock
+    private CourseTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ChangeVersionAllocator changeVersions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CourseFacetAggregate facetAggregate;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.sumByCategory()).thenReturn(List.of(
+                totals("Backend", 2L, 70L),
+                totals("Frontend", 1L, 20L)));
+        facetAggregate.afterSingletonsInstantiated();
+    }
+
+    @Test
+    @DisplayName("Deve carregar as facetas do banco na inicialização")
+    void shouldLoadFromRepository() {
+        CourseFacetsResponse result = facetAggregate.snapshot();
+
+        assertThat(result.totalCourses()).isEqualTo(3);
+        assertThat(result.totalHours()).isEqualTo(90);
+        assertThat(result.categories()).containsExactly(
+                new CategoryFacetResponse("Backend", 2, 70),
+                new CategoryFacetResponse("Frontend", 1, 20));
+    }
+
+    @Test
+    @DisplayName("Deve somar um curso criado à sua categoria")
+    void shouldAddCreatedCourse() {
+        facetAggregate.onCourseChanged(CourseChangedEvent.created(course(10L, "Dados", 15)));
+
+        assertThat(facetAggregate.snapshot().categories())
+                .contains(new CategoryFacetResponse("Dados", 1, 15));
+    }
+
+    @Test
+    @DisplayName("Deve somar os cursos de um bloco de criação sem recarregar do banco")
+    void shouldAddCreatedChunkWithoutRebuild() {
+        // Act
+        facetAggregate.onCoursesBulkChanged(CoursesBulkChangedEvent.created(List.of(
+                course(10L, "Dados", 15), course(11L, "Dados", 5), course(12L, "Backend", 10))));
+
+        // Assert
+        assertThat(facetAggregate.snapshot().categories()).containsExactly(
+                new CategoryFacetResponse("Backend", 3, 80),
+                new CategoryFacetResponse("Dados", 2, 20),
+                new CategoryFacetResponse("Frontend", 1, 20));
+        verify(repository, times(1)).sumByCategory();
+    }
+
+    @Test
+    @DisplayName("Deve mover o curso entre categorias ao atualizar")
+    void shouldMoveUpdatedCourse() {
+        facetAggregate.onCourseChanged(CourseChangedEvent.updated(
+                course(1L, "Frontend", 20), course(1L, "Backend", 30)));
+
+        CourseFacetsResponse result = facetAggregate.snapshot();
+        assertThat(result.categories()).containsExactly(new CategoryFacetResponse("Backend", 3, 100));
+        assertThat(result.totalHours()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Deve subtrair um curso deletado e remover categorias vazias")
+    void shouldRemoveDeletedCourse() {
+        facetAggregate.onCourseChanged(CourseChangedEvent.deleted(course(1L, "Frontend", 20), 5L));
+
+        CourseFacetsResponse result = facetAggregate.snapshot();
+        assertThat(result.categories()).extracting(CategoryFacetResponse::category).containsExactly("Backend");
+        assertThat(result.totalCourses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Evento recebido durante a recarga deve esperar a troca e entrar no mapa novo")
+    void shouldApplyEventDuringRebuildToRebuiltMap() throws Exception {
+        // Arrange
+        Thread[] writer = new Thread[1];
+        when(changeVersions.stableWatermark()).thenReturn(5L);
+        when(repository.sumByCategory()).thenAnswer(invocation -> {
+            writer[0] = Thread.ofPlatform().start(() ->
+                    facetAggregate.onCourseChanged(CourseChangedEvent.created(course(10L, "Dados", 15, 6L))));
+            while (writer[0].getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            // Leitores continuam vendo o mapa anterior inteiro enquanto a recarga roda
+            assertThat(facetAggregate.snapshot().totalCourses()).isEqualTo(3);
+            return List.of(totals("Backend", 4L, 100L));
+        });
+
+        // Act
+        facetAggregate.rebuild();
+        writer[0].join();
+
+        // Assert
+        assertThat(facetAggregate.snapshot().categories()).containsExactly(
+                new CategoryFacetResponse("Backend", 4, 100),
+                new CategoryFacetResponse("Dados", 1, 15));
+    }
+
+    @Test
+    @DisplayName("Mudança confirmada antes da consulta com evento após a troca não deve ser contada duas vezes")
+    void shouldSkipEventsAlreadyInRebuiltSnapshot() throws Exception {
+        // Arrange
+        Thread[] writers = new Thread[2];
+        when(changeVersions.stableWatermark()).thenReturn(5L);
+        when(repository.sumByCategory()).thenAnswer(invocation -> {
+            // Criação (versão 6) e atualização do curso 1 para Dados (versão 7) já confirmadas: estão na consulta
+            writers[0] = Thread.ofPlatform().start(() ->
+                    facetAggregate.onCourseChanged(CourseChangedEvent.created(course(10L, "Dados", 15, 6L))));
+            writers[1] = Thread.ofPlatform().start(() -> facetAggregate.onCourseChanged(CourseChangedEvent.updated(
+                    course(1L, "Frontend", 20), course(1L, "Dados", 20, 7L))));
+            for (Thread writer : writers) {
+                while (writer.getState() != Thread.State.WAITING) {
+                    Thread.onSpinWait();
+                }
+            }
+            return List.of(totals("Backend", 2L, 70L), totals("Dados", 2L, 35L));
+        });
+        when(repository.findChangeVersionsAfter(5L)).thenReturn(List.of(version(10L, 6L), version(1L, 7L)));
+        when(tombstoneRepository.findChangeVersionsAfter(5L)).thenReturn(List.of());
+
+        // Act
+        facetAggregate.rebuild();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        // Mudanças posteriores à consulta continuam sendo aplicadas, inclusive de um curso já visto
+        facetAggregate.onCourseChanged(CourseChangedEvent.deleted(course(10L, "Dados", 15), 8L));
+        // Mudança até a marca estável também já estava na consulta
+        facetAggregate.onCourseChanged(CourseChangedEvent.created(course(11L, "Backend", 10, 4L)));
+
+        // Assert
+        assertThat(facetAggregate.snapshot().categories()).containsExactly(
+                new CategoryFacetResponse("Backend", 2, 70),
+                new CategoryFacetResponse("Dados", 1, 20));
+    }
+
+    private static Course course(Long id, String category, int duration, long changeVersion) {
+        Course course = course(id, category, duration);
+        course.setChangeVersion(changeVersion);
+        return course;
+    }
+
+    private static CourseChangeVersion version(Long courseId, Long changeVersion) {
+        return new CourseChangeVersion() {
+            @Override
+            public Long getCourseId() {
+                return courseId;
+            }
+
+            @Override
+            public Long getChangeVersion() {
+                return changeVersion;
+            }
+        };
+    }
+
+    private static Course course(Long id, String category, int duration) {
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle("Curso " + id);
+        course.setDescription("Descrição");
+        course.setCategory(category);
+        course.setDuration(duration);
+        return course;
+    }
+
+    private static CategoryTotals totals(String category, Long courses, Long totalHours) {
+        return new CategoryTotals() {
+            @Override
+            public String getCategory() {
+                return category;
+            }
+
+            @Override
+            public Long getCourses() {
+                return courses;
+            }
+
+            @Override
+            public Long getTotalHours() {
+                return totalHours;
+            }
+        };
+    }
+}
@@ -0,0 +1,188 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CourseImportJobResponse;
+import com.br.courses.dto.CourseImportRowError;
+import com.br.courses.exception.ItemNotFoundException;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.model.Course;
+import com.br.courses.repository.CourseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourseImportService Tests")
+class CourseImportServiceTest {
+
+    @Mock
+    private CourseRepository repository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CourseImportService importService;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        CourseMapper mapper = new CourseMapper();
+        CourseBatchService batchService = new CourseBatchService(repository, mapper,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                entityManager, transactionTemplate, eventPublisher);
+        // Executa a importação na própria thread do teste
+        importService = new CourseImportService(batchService, mapper,
+                new ExecutorServiceAdapter(new SyncTaskExecutor()), Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Deve importar as linhas válidas e reportar as inválidas pelo número da linha")
+    void shouldImportValidRowsAndReportInvalidOnes() {
+        // Arrange
+        runTransactionsInline();
+        String csv = """
+                title,description,category,duration
+                Java,"Fundamentos, sintaxe e ""boas práticas""",Backend,30
+                ,Sem título,Backend,10
+                SQL,"Modelagem
+                relacional",Dados,20
+                Docker,Containers,DevOps,dez
+                """;
+
+        // Act
+        CourseImportJobResponse job = importService.find(importService.start(csv(csv)).jobId());
+
+        // Assert
+        assertThat(job.status()).isEqualTo(CourseImportJobResponse.Status.COMPLETED);
+        assertThat(job.rowsRead()).isEqualTo(4);
+        assertThat(job.created()).isEqualTo(2);
+        assertThat(job.rejected()).isEqualTo(2);
+        assertThat(job.errors()).extracting(CourseImportRowError::line).containsExactly(3L, 6L);
+        assertThat(job.errors().get(1).errors()).extracting("field").containsExactly("duration");
+        verify(eventPublisher, times(1)).publishEvent(any(CoursesBulkChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar em blocos limitados ao tamanho do bloco do CourseBatchService")
+    void shouldWriteInBoundedChunks() {
+        // Arrange
+        runTransactionsInline();
+        String csv = "title,description,category,duration\n" + IntStream.range(0, CourseBatchService.CHUNK_SIZE * 2 + 1)
+                .mapToObj(i -> "Curso " + i + ",Descrição,Backend,10")
+                .collect(Collectors.joining("\n"));
+
+        // Act
+        CourseImportJobResponse job = importService.find(importService.start(csv(csv)).jobId());
+
+        // Assert
+        assertThat(job.created()).isEqualTo(CourseBatchService.CHUNK_SIZE * 2 + 1);
+        verify(repository, times(3)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve publicar um único evento em massa por bloco gravado, nunca um por linha")
+    void shouldPublishOneBulkEventPerChunk() {
+        // Arrange
+        runTransactionsInline();
+        String csv = "title,description,category,duration\n" + IntStream.range(0, CourseBatchService.CHUNK_SIZE * 2 + 1)
+                .mapToObj(i -> "Curso " + i + ",Descrição,Backend,10")
+                .collect(Collectors.joining("\n"));
+        ArgumentCaptor<CoursesBulkChangedEvent> events = ArgumentCaptor.forClass(CoursesBulkChangedEvent.class);
+
+        // Act
+        importService.start(csv(csv));
+
+        // Assert
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        verify(eventPublisher, never()).publishEvent(any(CourseChangedEvent.class));
+        assertThat(events.getAllValues()).extracting(event -> event.courses().size())
+                .containsExactly(CourseBatchService.CHUNK_SIZE, CourseBatchService.CHUNK_SIZE, 1);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar todas as linhas do bloco quando a gravação falha")
+    void shouldRejectRowsOfFailedChunk() {
+        // Arrange
+        when(transactionTemplate.execute(any())).thenThrow(new DataIntegrityViolationException("duplicado"));
+
+        // Act
+        CourseImportJobResponse job = importService.find(importService.start(csv("""
+                title,description,category,duration
+                Java,Fundamentos,Backend,30
+                """)).jobId());
+
+        // Assert
+        assertThat(job.status()).isEqualTo(CourseImportJobResponse.Status.COMPLETED);
+        assertThat(job.rejected()).isEqualTo(1);
+        assertThat(job.errors()).extracting(CourseImportRowError::line).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Deve falhar a importação quando o cabeçalho não tem as colunas esperadas")
+    void shouldFailWithoutExpectedHeader() {
+        // Act
+        CourseImportJobResponse job = importService.find(importService.start(csv("""
+                titulo,descricao
+                Java,Fundamentos
+                """)).jobId());
+
+        // Assert
+        assertThat(job.status()).isEqualTo(CourseImportJobResponse.Status.FAILED);
+        assertThat(job.failureMessage()).contains("title", "category", "duration");
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para importação inexistente")
+    void shouldThrowForUnknownJob() {
+        assertThatThrownBy(() -> importService.find(UUID.randomUUID()))
+                .isInstanceOf(ItemNotFoundException.class);
+    }
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "cursos.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Course> courses = invocation.getArgument(0);
+            courses.forEach(course -> course.setId(sequence.incrementAndGet()));
+            return courses;
+        });
+    }
+}
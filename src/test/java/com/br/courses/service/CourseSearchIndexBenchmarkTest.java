@@ -0,0 +1,104 @@
+package com.br.courses.service;
+
+import com.br.courses.benchmark.Benchmarks;
+import com.br.courses.model.Course;
+import com.br.courses.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Benchmark da busca do CourseSearchIndex sobre 1M de cursos em memória
+ * Títulos combinam poucos tópicos (termos presentes em 1/8 do catálogo); descrições usam um
+ * vocabulário sintético com frequência decrescente, como texto real
+ * Consultas com algum termo seletivo devem ficar abaixo da meta (1 ms por padrão);
+ * consultas só com termos comuns ficam fora dela, como documentado em CourseSearchIndex
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("CourseSearchIndex search benchmark")
+class CourseSearchIndexBenchmarkTest {
+
+    private static final int COURSES = Integer.getInteger("benchmark.courses", 1_000_000);
+    private static final double TARGET_MS = Double.parseDouble(System.getProperty("benchmark.search.target-ms", "1"));
+    private static final int WARMUP = 300;
+    private static final int ITERATIONS = 200;
+    private static final int LIMIT = 10;
+    private static final String[] LEVELS = {"Fundamentos", "Avançado", "Na Prática", "Para Iniciantes", "Essencial", "Completo"};
+
+    private final String[] vocabulary = new String[5000];
+    private final CourseSearchIndex index = new CourseSearchIndex(mock(CourseRepository.class));
+
+    @BeforeAll
+    void populate() {
+        Random random = new Random(7);
+        for (int i = 0; i < vocabulary.length; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 4 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            vocabulary[i] = word.toString();
+        }
+
+        Benchmarks.populate(COURSES, "cursos indexados", () -> {
+            for (int id = 1; id <= COURSES; id++) {
+                StringBuilder description = new StringBuilder();
+                for (int word = 0; word < 12; word++) {
+                    int rank = (int) Math.min(vocabulary.length - 1, Math.abs(random.nextGaussian()) * 600);
+                    description.append(vocabulary[rank]).append(' ');
+                }
+                Course course = new Course();
+                course.setId((long) id);
+                course.setTitle("Curso de " + Benchmarks.TOPICS[id % Benchmarks.TOPICS.length] + " "
+                        + LEVELS[(id / Benchmarks.TOPICS.length) % LEVELS.length]);
+                course.setDescription(description.toString());
+                index.index(course);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Termos raros respondem abaixo da meta")
+    void rareTerms() {
+        assertThat(run("termo raro", vocabulary[3000])).isLessThan(TARGET_MS);
+        assertThat(run("dois termos de frequência média", vocabulary[100] + " " + vocabulary[2500])).isLessThan(TARGET_MS);
+    }
+
+    @Test
+    @DisplayName("Termo comum combinado com termo seletivo é podado abaixo da meta")
+    void commonAndSelectiveTerms() {
+        assertThat(run("tópico + termo seletivo", "docker " + vocabulary[1])).isLessThan(TARGET_MS);
+    }
+
+    /**
+     * Termos presentes em 1/8 do catálogo pontuam centenas de milhares de cursos sem poda possível:
+     * fora da meta por limitação conhecida, então só se exige que respondam o top-k
+     */
+    @Test
+    @DisplayName("Termos comuns e com erro de digitação respondem, sem meta de latência")
+    void commonTerms() {
+        for (String query : List.of("java", "spring avancado", "kotln")) {
+            run("só termos comuns", query);
+            assertThat(index.search(query, LIMIT)).hasSize(LIMIT);
+        }
+    }
+
+    /**
+     * @return p50 em milissegundos
+     */
+    private double run(String scenario, String query) {
+        Benchmarks.Latency latency = Benchmarks.measure(WARMUP, ITERATIONS, () -> index.search(query, LIMIT).size());
+        System.out.printf(Locale.ROOT, "== %s (\"%s\") == %s | meta: %.1f ms%n", scenario, query, latency, TARGET_MS);
+        return latency.p50Ms();
+    }
+}
@@ -0,0 +1,132 @@
+package com.br.courses.service;
+
+import com.br.courses.model.Course;
+import com.br.courses.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourseSearchIndex Tests")
+class CourseSearchIndexTest {
+
+    @Mock
+    private CourseRepository repository;
+
+    @InjectMocks
+    private CourseSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex.index(course(1L, "Programação em Java", "Fundamentos da linguagem Java"));
+        searchIndex.index(course(2L, "Spring Boot", "Aplicações Java com Spring Boot"));
+        searchIndex.index(course(3L, "Banco de Dados", "Modelagem relacional e SQL"));
+    }
+
+    @Test
+    @DisplayName("Deve ranquear cursos com o termo no título acima dos que só o têm na descrição")
+    void shouldRankTitleMatchesFirst() {
+        List<Long> ids = ids(searchIndex.search("java", 10));
+
+        assertThat(ids).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos e maiúsculas na busca")
+    void shouldIgnoreAccentsAndCase() {
+        assertThat(ids(searchIndex.search("PROGRAMACAO", 10))).containsExactly(1L);
+        assertThat(ids(searchIndex.search("aplicacoes", 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Deve tolerar um erro de digitação por termo")
+    void shouldTolerateTypos() {
+        assertThat(ids(searchIndex.search("sprnig", 10))).containsExactly(2L);
+        assertThat(ids(searchIndex.search("relacinal", 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Deve pontuar uma vez o termo alcançado por um token exato e por um aproximado")
+    void shouldScoreTermOnceWhenMatchedByTwoTokens() {
+        double exact = searchIndex.search("java", 10).get(0).score();
+
+        List<CourseSearchIndex.SearchHit> hits = searchIndex.search("java jvaa", 10);
+
+        assertThat(ids(hits)).containsExactly(1L, 2L);
+        assertThat(hits.get(0).score()).isEqualTo(exact);
+    }
+
+    @Test
+    @DisplayName("Deve reindexar um curso atualizado sem manter os termos antigos")
+    void shouldReplaceTermsOnUpdate() {
+        searchIndex.onCourseChanged(CourseChangedEvent.updated(
+                course(3L, "Banco de Dados", "Modelagem relacional e SQL"),
+                course(3L, "Kotlin", "Linguagem moderna")));
+
+        assertThat(searchIndex.search("sql", 10)).isEmpty();
+        assertThat(ids(searchIndex.search("kotlin", 10))).containsExactly(3L);
+        assertThat(searchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve remover um curso deletado do índice")
+    void shouldRemoveDeletedCourse() {
+        searchIndex.onCourseChanged(CourseChangedEvent.deleted(course(2L, "Spring Boot", "Aplicações Java com Spring Boot"), 1L));
+
+        assertThat(ids(searchIndex.search("spring", 10))).isEmpty();
+        assertThat(ids(searchIndex.search("java", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de resultados")
+    void shouldRespectLimit() {
+        assertThat(searchIndex.search("java", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve construir o índice a partir do banco na inicialização")
+    void shouldRebuildFromRepository() {
+        CourseSearchIndex fresh = new CourseSearchIndex(repository);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(course(10L, "Docker", "Containers")));
+
+        fresh.afterSingletonsInstantiated();
+
+        assertThat(ids(fresh.search("docker", 10))).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer termos a uma edição de distância")
+    void shouldDetectOneEditAway() {
+        assertThat(CourseSearchIndex.isOneEditAway("curso", "cursos")).isTrue();
+        assertThat(CourseSearchIndex.isOneEditAway("curso", "cruso")).isTrue();
+        assertThat(CourseSearchIndex.isOneEditAway("curso", "curto")).isTrue();
+        assertThat(CourseSearchIndex.isOneEditAway("curso", "cruzo")).isFalse();
+    }
+
+    private static List<Long> ids(List<CourseSearchIndex.SearchHit> hits) {
+        return hits.stream().map(CourseSearchIndex.SearchHit::courseId).toList();
+    }
+
+    private static Course course(Long id, String title, String description) {
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle(title);
+        course.setDescription(description);
+        course.setCategory("Backend");
+        course.setDuration(10);
+        return course;
+    }
+}
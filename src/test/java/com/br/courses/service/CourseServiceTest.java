@@ -1,9 +1,17 @@
 package com.br.courses.service;
 
+import com.br.courses.dto.CourseBulkDeleteRequest;
+import com.br.courses.dto.CourseBulkUpdateRequest;
+import com.br.courses.dto.CourseFilter;
 import com.br.courses.dto.CourseRequest;
+import com.br.courses.dto.CourseSummaryResponse;
+import com.br.courses.exception.BadRequestException;
 import com.br.courses.exception.ItemNotFoundException;
 import com.br.courses.model.Course;
+import com.br.courses.repository.ChangeVersionAllocator;
 import com.br.courses.repository.CourseRepository;
+import com.br.courses.repository.CourseTombstoneRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,13 +19,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +44,21 @@ class CourseServiceTest {
     @Mock
     private CourseRepository repository;
 
+    @Mock
+    private CourseTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ChangeVersionAllocator changeVersions;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CourseSearchIndex searchIndex;
+
     @InjectMocks
     private CourseService courseService;
 
@@ -90,6 +122,105 @@ class CourseServiceTest {
         verify(repository, times(1)).findAll();
     }
 
+    // ================== FIND PAGE TESTS ==================
+
+    @Test
+    @DisplayName("Deve buscar a primeira página a partir do id zero")
+    void testFindPageFirstPage() {
+        // Arrange
+        when(repository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(11))).thenReturn(List.of(testCourse));
+
+        // Act
+        List<Course> result = courseService.findPage(null, 11);
+
+        // Assert
+        assertThat(result).containsExactly(testCourse);
+        verify(repository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(11));
+    }
+
+    @Test
+    @DisplayName("Deve buscar a página seguinte a partir do último id visto")
+    void testFindPageAfterCursor() {
+        // Arrange
+        when(repository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(5))).thenReturn(List.of());
+
+        // Act
+        List<Course> result = courseService.findPage(1L, 5);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve buscar a página de resumos sem carregar entidades")
+    void testFindSummaryPage() {
+        // Arrange
+        CourseSummaryResponse summary = new CourseSummaryResponse(1L, "Spring Boot Fundamentals", "Backend", 40, 0L);
+        when(repository.findSummariesAfter(0L, PageRequest.ofSize(21))).thenReturn(List.of(summary));
+
+        // Act
+        List<CourseSummaryResponse> result = courseService.findSummaryPage(null, 21);
+
+        // Assert
+        assertThat(result).containsExactly(summary);
+        verify(repository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    // ================== EXPORT TESTS ==================
+
+    @Test
+    @DisplayName("Deve exportar cada curso e removê-lo do contexto de persistência")
+    void testExportAllDetachesEachCourse() {
+        // Arrange
+        Course course2 = new Course();
+        course2.setId(2L);
+        when(repository.streamAll()).thenReturn(Stream.of(testCourse, course2));
+        List<Course> exported = new ArrayList<>();
+
+        // Act
+        courseService.exportAll(exported::add);
+
+        // Assert
+        assertThat(exported).containsExactly(testCourse, course2);
+        verify(entityManager, times(1)).detach(testCourse);
+        verify(entityManager, times(1)).detach(course2);
+    }
+
+    // ================== SEARCH TESTS ==================
+
+    @Test
+    @DisplayName("Deve retornar cursos na ordem de relevância do índice")
+    void testSearchKeepsIndexOrder() {
+        // Arrange
+        Course course2 = new Course();
+        course2.setId(2L);
+        when(searchIndex.search("spring", 10)).thenReturn(List.of(
+                new CourseSearchIndex.SearchHit(2L, 3.5),
+                new CourseSearchIndex.SearchHit(1L, 1.2)));
+        when(repository.findAllById(List.of(2L, 1L))).thenReturn(List.of(testCourse, course2));
+
+        // Act
+        List<Course> result = courseService.search("spring", 10);
+
+        // Assert
+        assertThat(result).containsExactly(course2, testCourse);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco quando a busca não encontra nada")
+    void testSearchWithoutHits() {
+        // Arrange
+        when(searchIndex.search("inexistente", 10)).thenReturn(List.of());
+
+        // Act
+        List<Course> result = courseService.search("inexistente", 10);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(repository, never()).findAllById(any());
+    }
+
     // ================== SAVE TESTS ==================
 
     @Test
@@ -116,6 +247,7 @@ class CourseServiceTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getTitle()).isEqualTo("New Course");
         verify(repository, times(1)).save(any(Course.class));
+        verify(eventPublisher, times(1)).publishEvent(CourseChangedEvent.created(result));
     }
 
     // ================== FIND BY ID TESTS ==================
@@ -150,6 +282,32 @@ class CourseServiceTest {
         verify(repository, times(1)).findById(999L);
     }
 
+    @Test
+    @DisplayName("Deve retornar a versão do curso sem carregar a entidade")
+    void testFindVersionSuccess() {
+        // Arrange
+        when(repository.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+        // Act
+        long result = courseService.findVersion(1L);
+
+        // Assert
+        assertThat(result).isEqualTo(3L);
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao buscar versão de curso inexistente")
+    void testFindVersionNotFound() {
+        // Arrange
+        when(repository.findVersionById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> courseService.findVersion(999L))
+                .isInstanceOf(ItemNotFoundException.class)
+                .hasMessage("Curso não encontrado com id: 999");
+    }
+
     // ================== UPDATE TESTS ==================
 
     @Test
@@ -221,14 +379,34 @@ class CourseServiceTest {
     void testDeleteSuccess() {
         // Arrange
         when(repository.findById(1L)).thenReturn(Optional.of(testCourse));
-        doNothing().when(repository).deleteById(1L);
+        when(changeVersions.next()).thenReturn(41L);
+        when(tombstoneRepository.insertForCourses(eq(List.of(1L)), eq(41L), any(Instant.class))).thenReturn(1);
+        doNothing().when(repository).delete(testCourse);
 
         // Act
         courseService.delete(1L);
 
         // Assert
         verify(repository, times(1)).findById(1L);
-        verify(repository, times(1)).deleteById(1L);
+        verify(repository, times(1)).delete(testCourse);
+        verify(repository, never()).deleteById(any());
+        verify(tombstoneRepository, times(1)).insertForCourses(eq(List.of(1L)), eq(41L), any(Instant.class));
+        verify(eventPublisher, times(1)).publishEvent(CourseChangedEvent.deleted(testCourse, 41L));
+    }
+
+    @Test
+    @DisplayName("Deve tratar como já removido o curso registrado antes por uma remoção concorrente")
+    void testDeleteConcurrentlyDeleted() {
+        // Arrange
+        when(repository.findById(1L)).thenReturn(Optional.of(testCourse));
+        when(changeVersions.next()).thenReturn(41L);
+        when(tombstoneRepository.insertForCourses(eq(List.of(1L)), eq(41L), any(Instant.class))).thenReturn(0);
+
+        // Act & Assert
+        assertThatThrownBy(() -> courseService.delete(1L))
+                .isInstanceOf(ItemNotFoundException.class);
+        verify(repository, never()).delete(any(Course.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -243,21 +421,25 @@ class CourseServiceTest {
                 .hasMessage("Curso não encontrado com id: 999");
 
         verify(repository, times(1)).findById(999L);
+        verify(repository, never()).delete(any(Course.class));
         verify(repository, never()).deleteById(any());
+        verifyNoInteractions(tombstoneRepository);
     }
 
     @Test
-    @DisplayName("Deve chamar deleteById com o ID correto")
-    void testDeleteCallsRepositoryWithCorrectId() {
+    @DisplayName("Deve remover a entidade já carregada, sem buscá-la de novo")
+    void testDeleteReusesLoadedEntity() {
         // Arrange
         when(repository.findById(1L)).thenReturn(Optional.of(testCourse));
-        doNothing().when(repository).deleteById(1L);
+        when(changeVersions.next()).thenReturn(41L);
+        doNothing().when(repository).delete(testCourse);
 
         // Act
         courseService.delete(1L);
 
         // Assert
-        verify(repository, times(1)).deleteById(1L);
+        verify(repository, times(1)).delete(testCourse);
+        verify(repository, never()).deleteById(any());
     }
 
     // ================== EDGE CASES TESTS ==================
@@ -300,5 +482,125 @@ class CourseServiceTest {
         // Assert
         assertThat(result.getTitle()).hasSize(200);
     }
-}
 
+    @Test
+    @DisplayName("Deve atualizar em massa com um único UPDATE e publicar os ids afetados")
+    void testBulkUpdate() {
+        // Arrange
+        CourseFilter filter = new CourseFilter("Backend", null, 10, null, null);
+        when(changeVersions.next()).thenReturn(42L);
+        when(repository.bulkUpdate(filter, "Java", null, 42L)).thenReturn(2);
+        when(repository.findIdsByChangeVersion(42L)).thenReturn(List.of(1L, 2L));
+
+        // Act
+        int affected = courseService.bulkUpdate(new CourseBulkUpdateRequest(filter, "Java", null));
+
+        // Assert
+        assertThat(affected).isEqualTo(2);
+        verify(eventPublisher).publishEvent(new CoursesBulkChangedEvent(CoursesBulkChangedEvent.Type.UPDATED, List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Não deve publicar evento quando o UPDATE em massa não altera nenhum curso")
+    void testBulkUpdateNoMatches() {
+        // Arrange
+        CourseFilter filter = new CourseFilter("Inexistente", null, null, null, null);
+        when(changeVersions.next()).thenReturn(42L);
+        when(repository.bulkUpdate(filter, null, 30, 42L)).thenReturn(0);
+
+        // Act
+        int affected = courseService.bulkUpdate(new CourseBulkUpdateRequest(filter, null, 30));
+
+        // Assert
+        assertThat(affected).isZero();
+        verify(repository, never()).findIdsByChangeVersion(anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Não deve executar o DELETE nem publicar evento quando nada atende ao filtro")
+    void testBulkDeleteNoMatches() {
+        // Arrange
+        CourseFilter filter = new CourseFilter(null, List.of(99L), null, null, null);
+        when(changeVersions.next()).thenReturn(43L);
+        when(tombstoneRepository.insertMatching(eq(filter), eq(43L), any(Instant.class))).thenReturn(0);
+
+        // Act
+        int affected = courseService.bulkDelete(new CourseBulkDeleteRequest(filter));
+
+        // Assert
+        assertThat(affected).isZero();
+        verify(repository, never()).deleteTombstoned(anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve remover em massa e publicar os ids removidos")
+    void testBulkDelete() {
+        // Arrange
+        CourseFilter filter = new CourseFilter("Backend", null, null, null, null);
+        when(changeVersions.next()).thenReturn(43L);
+        when(tombstoneRepository.insertMatching(eq(filter), eq(43L), any(Instant.class))).thenReturn(1);
+        when(tombstoneRepository.findCourseIdsByChangeVersion(43L)).thenReturn(List.of(1L));
+        when(repository.deleteTombstoned(43L)).thenReturn(1);
+
+        // Act
+        int affected = courseService.bulkDelete(new CourseBulkDeleteRequest(filter));
+
+        // Assert
+        assertThat(affected).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new CoursesBulkChangedEvent(CoursesBulkChangedEvent.Type.DELETED, List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar operação em massa com filtro vazio")
+    void testBulkOperationWithEmptyFilter() {
+        // Arrange
+        CourseFilter filter = new CourseFilter(null, List.of(), null, null, " ");
+
+        // Act & Assert
+        assertThatThrownBy(() -> courseService.bulkDelete(new CourseBulkDeleteRequest(filter)))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve filtrar acrescentando o id como desempate da ordenação")
+    void testFilterAppendsIdTieBreaker() {
+        // Arrange
+        CourseFilter filter = new CourseFilter("Backend", null, 10, 40, "spring");
+        List<CourseSummaryResponse> summaries = List.of(new CourseSummaryResponse(1L, "Spring Boot", "Backend", 20, 0L));
+        PageRequest expected = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "duration").and(Sort.by("id")));
+        when(repository.findSummaries(filter, expected)).thenReturn(summaries);
+
+        // Act
+        List<CourseSummaryResponse> result = courseService.filter(filter,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "duration")));
+
+        // Assert
+        assertThat(result).isEqualTo(summaries);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar ordenação por campo não suportado")
+    void testFilterRejectsUnknownSort() {
+        // Arrange
+        CourseFilter filter = new CourseFilter(null, null, null, null, null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> courseService.filter(filter, PageRequest.of(0, 20, Sort.by("description"))))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar faixa de duração invertida")
+    void testFilterRejectsInvertedDurationRange() {
+        // Arrange
+        CourseFilter filter = new CourseFilter(null, null, 50, 10, null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> courseService.filter(filter, PageRequest.of(0, 20)))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
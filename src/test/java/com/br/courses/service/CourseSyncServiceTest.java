@@ -0,0 +1,120 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CourseChangesResponse;
+import com.br.courses.dto.CourseResponse;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.mapper.CursorCodec;
+import com.br.courses.mapper.CursorCodec.ChangeToken;
+import com.br.courses.model.Course;
+import com.br.courses.model.CourseTombstone;
+import com.br.courses.repository.ChangeVersionAllocator;
+import com.br.courses.repository.CourseRepository;
+import com.br.courses.repository.CourseTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourseSyncService Tests")
+class CourseSyncServiceTest {
+
+    @Mock
+    private CourseRepository repository;
+
+    @Mock
+    private CourseTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ChangeVersionAllocator changeVersions;
+
+    private final CursorCodec cursorCodec = new CursorCodec();
+
+    private CourseSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new CourseSyncService(repository, tombstoneRepository, changeVersions, new CourseMapper(), cursorCodec);
+    }
+
+    @Test
+    @DisplayName("Deve intercalar alterações e remoções pela versão de mudança")
+    void shouldMergeChangesAndDeletions() {
+        // Arrange
+        when(changeVersions.stableWatermark()).thenReturn(10L);
+        when(repository.findChangedAfter(0, 0, 10, Limit.of(3)))
+                .thenReturn(List.of(course(1L, 2L), course(3L, 5L), course(4L, 9L)));
+        when(tombstoneRepository.findDeletedAfter(0, 0, 10, Limit.of(3)))
+                .thenReturn(List.of(tombstone(2L, 4L)));
+
+        // Act
+        CourseChangesResponse changes = syncService.changesSince(null, 2);
+
+        // Assert
+        assertThat(changes.changed()).extracting(CourseResponse::id).containsExactly(1L);
+        assertThat(changes.deleted()).containsExactly(2L);
+        assertThat(changes.hasMore()).isTrue();
+        assertThat(cursorCodec.decodeChangeToken(changes.nextToken())).isEqualTo(new ChangeToken(4L, 2L));
+    }
+
+    @Test
+    @DisplayName("Deve avançar o token até a marca estável quando não há mais mudanças")
+    void shouldAdvanceTokenToWatermark() {
+        // Arrange
+        String token = cursorCodec.encodeChangeToken(new ChangeToken(4L, 2L));
+        when(changeVersions.stableWatermark()).thenReturn(10L);
+        when(repository.findChangedAfter(4, 2, 10, Limit.of(101))).thenReturn(List.of(course(3L, 5L)));
+        when(tombstoneRepository.findDeletedAfter(4, 2, 10, Limit.of(101))).thenReturn(List.of());
+
+        // Act
+        CourseChangesResponse changes = syncService.changesSince(token, 100);
+
+        // Assert
+        assertThat(changes.changed()).extracting(CourseResponse::id).containsExactly(3L);
+        assertThat(changes.hasMore()).isFalse();
+        assertThat(cursorCodec.decodeChangeToken(changes.nextToken())).isEqualTo(new ChangeToken(10L, Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Deve continuar a numeração a partir da maior versão persistida")
+    void shouldAdvanceAllocatorOnStartup() {
+        // Arrange
+        when(repository.findMaxChangeVersion()).thenReturn(7L);
+        when(tombstoneRepository.findMaxChangeVersion()).thenReturn(12L);
+
+        // Act
+        syncService.afterSingletonsInstantiated();
+
+        // Assert
+        verify(changeVersions).advanceTo(12L);
+    }
+
+    private static Course course(Long id, long changeVersion) {
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle("Curso " + id);
+        course.setDescription("Descrição");
+        course.setCategory("Backend");
+        course.setDuration(10);
+        course.setVersion(0L);
+        course.setChangeVersion(changeVersion);
+        return course;
+    }
+
+    private static CourseTombstone tombstone(Long courseId, long changeVersion) {
+        CourseTombstone tombstone = new CourseTombstone();
+        tombstone.setCourseId(courseId);
+        tombstone.setChangeVersion(changeVersion);
+        tombstone.setDeletedAt(Instant.now());
+        return tombstone;
+    }
+}
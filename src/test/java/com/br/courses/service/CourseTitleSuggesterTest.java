@@ -0,0 +1,143 @@
+package com.br.courses.service;
+
+import com.br.courses.dto.CourseSuggestionResponse;
+import com.br.courses.model.Course;
+import com.br.courses.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourseTitleSuggester Tests")
+class CourseTitleSuggesterTest {
+
+    @Mock
+    private CourseRepository repository;
+
+    @InjectMocks
+    private CourseTitleSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester.index(course(1L, "Programação em Java"));
+        suggester.index(course(2L, "Programação Funcional"));
+        suggester.index(course(3L, "JavaScript Moderno"));
+        suggester.index(course(4L, "Java  Avançado"));
+    }
+
+    @Test
+    @DisplayName("Deve sugerir títulos que começam com o prefixo em ordem alfabética")
+    void shouldSuggestByPrefixInOrder() {
+        assertThat(ids(suggester.suggest("prog", 10))).containsExactly(1L, 2L);
+        assertThat(ids(suggester.suggest("java", 10))).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos, maiúsculas e espaços repetidos")
+    void shouldFoldAccentsCaseAndWhitespace() {
+        assertThat(ids(suggester.suggest("PROGRAMACAO F", 10))).containsExactly(2L);
+        assertThat(ids(suggester.suggest("  java avan", 10))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Deve considerar o espaço final do prefixo como fim de palavra")
+    void shouldKeepTrailingSpace() {
+        assertThat(ids(suggester.suggest("java ", 10))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Deve retornar o título original e respeitar o limite")
+    void shouldReturnOriginalTitleAndRespectLimit() {
+        List<CourseSuggestionResponse> suggestions = suggester.suggest("programacao", 1);
+
+        assertThat(suggestions).containsExactly(new CourseSuggestionResponse(1L, "Programação em Java"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia para prefixo em branco")
+    void shouldReturnEmptyForBlankPrefix() {
+        assertThat(suggester.suggest("   ", 10)).isEmpty();
+        assertThat(suggester.suggest(null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve trocar o título de um curso atualizado sem manter o antigo")
+    void shouldReplaceTitleOnUpdate() {
+        suggester.onCourseChanged(CourseChangedEvent.updated(
+                course(3L, "JavaScript Moderno"), course(3L, "TypeScript")));
+
+        assertThat(ids(suggester.suggest("javas", 10))).isEmpty();
+        assertThat(ids(suggester.suggest("type", 10))).containsExactly(3L);
+        assertThat(suggester.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve remover cursos deletados, inclusive em massa")
+    void shouldRemoveDeletedCourses() {
+        suggester.onCourseChanged(CourseChangedEvent.deleted(course(1L, "Programação em Java"), 1L));
+        suggester.onCoursesBulkChanged(new CoursesBulkChangedEvent(CoursesBulkChangedEvent.Type.DELETED, List.of(4L)));
+
+        assertThat(ids(suggester.suggest("prog", 10))).containsExactly(2L);
+        assertThat(ids(suggester.suggest("java", 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Não deve repetir um curso renomeado enquanto as sugestões são lidas")
+    void shouldNotDuplicateCourseRenamedDuringSuggest() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> renames = executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    suggester.index(course(4L, i % 2 == 0 ? "Java Básico" : "Java Avançado"));
+                }
+            });
+            while (!renames.isDone()) {
+                assertThat(ids(suggester.suggest("java", 10))).doesNotHaveDuplicates();
+            }
+            renames.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve construir o índice a partir do banco na inicialização")
+    void shouldRebuildFromRepository() {
+        CourseTitleSuggester fresh = new CourseTitleSuggester(repository);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(course(10L, "Docker na Prática")));
+
+        fresh.afterSingletonsInstantiated();
+
+        assertThat(ids(fresh.suggest("dock", 10))).containsExactly(10L);
+    }
+
+    private static List<Long> ids(List<CourseSuggestionResponse> suggestions) {
+        return suggestions.stream().map(CourseSuggestionResponse::id).toList();
+    }
+
+    private static Course course(Long id, String title) {
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle(title);
+        course.setDescription("Descrição");
+        course.setCategory("Backend");
+        course.setDuration(10);
+        return course;
+    }
+}
@@ -6,12 +6,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -24,13 +25,14 @@ class CustomUserDetailsServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
     private CustomUserDetailsService customUserDetailsService;
 
     private User testUser;
 
     @BeforeEach
     void setUp() {
+        customUserDetailsService = new CustomUserDetailsService(userRepository, 100, Duration.ofMinutes(5));
+
         testUser = new User();
         testUser.setId(1L);
         testUser.setUsername("testuser");
@@ -229,5 +231,108 @@ class CustomUserDetailsServiceTest {
 
         assertThat(result.getUsername()).isEqualTo("user_@123");
     }
-}
 
+    // ================== CACHE TESTS ==================
+
+    @Test
+    @DisplayName("Deve servir a segunda carga do mesmo usuário pelo cache")
+    void shouldServeRepeatedLoadsFromCache() {
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        UserDetails first = customUserDetailsService.loadUserByUsername("testuser");
+        UserDetails second = customUserDetailsService.loadUserByUsername("testuser");
+
+        assertThat(second.getUsername()).isEqualTo(first.getUsername());
+        assertThat(second.getAuthorities()).isSameAs(first.getAuthorities());
+        verify(userRepository, times(1)).findByUsername("testuser");
+        assertThat(customUserDetailsService.stats().hitCount()).isEqualTo(1);
+        assertThat(customUserDetailsService.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve cachear usernames inexistentes")
+    void shouldNotCacheMissingUsers() {
+        when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> customUserDetailsService.loadUserByUsername("nonexistent"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> customUserDetailsService.loadUserByUsername("nonexistent"))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        verify(userRepository, times(2)).findByUsername("nonexistent");
+        assertThat(customUserDetailsService.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve refletir imediatamente a desativação do usuário após refresh")
+    void shouldReplaceCachedEntryOnRefresh() {
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        customUserDetailsService.loadUserByUsername("testuser");
+
+        testUser.setEnabled(false);
+        customUserDetailsService.refresh(testUser);
+        UserDetails result = customUserDetailsService.loadUserByUsername("testuser");
+
+        assertThat(result.isEnabled()).isFalse();
+        verify(userRepository, times(1)).findByUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco de novo após evict")
+    void shouldReloadAfterEvict() {
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        customUserDetailsService.loadUserByUsername("testuser");
+
+        customUserDetailsService.evict("testuser");
+        customUserDetailsService.loadUserByUsername("testuser");
+
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar a lista de authorities entre usuários do mesmo papel")
+    void shouldShareAuthoritiesPerRole() {
+        User otherUser = new User();
+        otherUser.setId(2L);
+        otherUser.setUsername("user2");
+        otherUser.setEmail("user2@example.com");
+        otherUser.setPassword("password2");
+        otherUser.setEnabled(true);
+        otherUser.setRole("ROLE_USER");
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByUsername("user2")).thenReturn(Optional.of(otherUser));
+
+        UserDetails first = customUserDetailsService.loadUserByUsername("testuser");
+        UserDetails second = customUserDetailsService.loadUserByUsername("user2");
+
+        assertThat(second.getAuthorities()).isSameAs(first.getAuthorities());
+    }
+
+    @Test
+    @DisplayName("Apagar as credenciais do usuário carregado não deve afetar o cache")
+    void shouldEraseCredentialsWithoutTouchingCache() {
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        UserDetails first = customUserDetailsService.loadUserByUsername("testuser");
+        ((CredentialsContainer) first).eraseCredentials();
+        UserDetails second = customUserDetailsService.loadUserByUsername("testuser");
+
+        assertThat(first.getPassword()).isNull();
+        assertThat(second.getPassword()).isEqualTo("encodedPassword123");
+        assertThat(second.toString()).doesNotContain("encodedPassword123");
+        verify(userRepository, times(1)).findByUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco de novo após evict pelo id")
+    void shouldReloadAfterEvictById() {
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        customUserDetailsService.loadUserByUsername("testuser");
+
+        customUserDetailsService.evictById(1L);
+        customUserDetailsService.loadUserByUsername("testuser");
+
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+}
@@ -30,6 +30,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
     @InjectMocks
     private UserService userService;
 
@@ -418,32 +421,98 @@ class UserServiceTest {
         verify(userRepository, times(1)).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("Deve atualizar o cache de autenticação com o usuário salvo")
+    void testUpdateUserRefreshesUserDetailsCache() {
+        // Arrange
+        User userDetails = new User();
+        userDetails.setEnabled(false);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        // Act
+        userService.updateUser(1L, userDetails);
+
+        // Assert
+        verify(userDetailsService, times(1)).refresh(testUser);
+        assertThat(testUser.getEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Não deve mexer no cache de autenticação quando a atualização falha")
+    void testUpdateUserNotFoundKeepsUserDetailsCache() {
+        // Arrange
+        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.updateUser(999L, new User()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userDetailsService);
+    }
+
     // ================== DELETE USER TESTS ==================
 
     @Test
     @DisplayName("Deve deletar usuário por ID")
     void testDeleteUserSuccess() {
         // Arrange
-        doNothing().when(userRepository).deleteById(1L);
+        when(userRepository.deleteUserById(1L)).thenReturn(1);
 
         // Act
-        userService.deleteUser(1L);
+        boolean deleted = userService.deleteUser(1L);
 
         // Assert
-        verify(userRepository, times(1)).deleteById(1L);
+        assertThat(deleted).isTrue();
+        verify(userRepository, times(1)).deleteUserById(1L);
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Deve tentar deletar usuário que não existe")
     void testDeleteUserNotFound() {
         // Arrange
-        doNothing().when(userRepository).deleteById(999L);
+        when(userRepository.deleteUserById(999L)).thenReturn(0);
 
         // Act
-        userService.deleteUser(999L);
+        boolean deleted = userService.deleteUser(999L);
 
         // Assert
-        verify(userRepository, times(1)).deleteById(999L);
+        assertThat(deleted).isFalse();
+        verifyNoInteractions(userDetailsService);
     }
-}
 
+    @Test
+    @DisplayName("Deve remover o usuário deletado do cache de autenticação")
+    void testDeleteUserEvictsUserDetailsCache() {
+        // Arrange
+        when(userRepository.deleteUserById(1L)).thenReturn(1);
+
+        // Act
+        userService.deleteUser(1L);
+
+        // Assert
+        verify(userDetailsService, times(1)).evictById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache de autenticação ao registrar usuário")
+    void testRegisterUserEvictsUserDetailsCache() {
+        // Arrange
+        User newUser = new User();
+        newUser.setUsername("newuser");
+        newUser.setEmail("newuser@example.com");
+        newUser.setPassword("password123");
+
+        when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
+        when(userRepository.findByEmail("newuser@example.com")).thenReturn(Optional.empty());
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenReturn(newUser);
+
+        // Act
+        userService.registerUser(newUser);
+
+        // Assert
+        verify(userDetailsService, times(1)).evict("newuser");
+    }
+}
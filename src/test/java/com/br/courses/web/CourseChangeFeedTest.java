@@ -0,0 +1,161 @@
+package com.br.courses.web;
+
+import com.br.courses.dto.CourseChangeMessage;
+import com.br.courses.mapper.CourseMapper;
+import com.br.courses.model.Course;
+import com.br.courses.service.CourseChangedEvent;
+import com.br.courses.service.CoursesBulkChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourseChangeFeed Tests")
+class CourseChangeFeedTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final int QUEUE_SIZE = 10;
+    private static final int BULK_EVENT_THRESHOLD = 3;
+
+    // O dispatcher mockado nunca esvazia as filas, simulando clientes que não leem
+    @Mock
+    private ExecutorService dispatcher;
+
+    @Mock
+    private ScheduledExecutorService heartbeat;
+
+    private CourseChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new CourseChangeFeed(new CourseMapper(), BUFFER_SIZE, QUEUE_SIZE, BULK_EVENT_THRESHOLD,
+                Duration.ofMinutes(1), dispatcher, heartbeat);
+    }
+
+    @Test
+    @DisplayName("Deve retomar a partir do Last-Event-ID com somente as mudanças perdidas")
+    void shouldResumeFromLastEventId() {
+        // Arrange
+        publishCreated(1L);
+        publishCreated(2L);
+        publishCreated(3L);
+
+        // Act
+        List<CourseChangeMessage> missed = feed.missedSince(feed.eventId(1));
+
+        // Assert
+        assertThat(missed).extracting(CourseChangeMessage::sequence).containsExactly(2L, 3L);
+        assertThat(missed).extracting(CourseChangeMessage::courseId).containsExactly(2L, 3L);
+        assertThat(missed.get(0).course().title()).isEqualTo("Curso 2");
+    }
+
+    @Test
+    @DisplayName("Não deve retomar com id de outra execução ou malformado")
+    void shouldNotResumeFromForeignId() {
+        // Arrange
+        publishCreated(1L);
+
+        // Act & Assert
+        assertThat(feed.missedSince("outraexecucao-0")).isNull();
+        assertThat(feed.missedSince("invalido")).isNull();
+        assertThat(feed.missedSince(feed.eventId(5))).isNull();
+    }
+
+    @Test
+    @DisplayName("Não deve retomar quando as mudanças perdidas já saíram do buffer")
+    void shouldNotResumeOlderThanBuffer() {
+        // Arrange
+        for (long id = 1; id <= BUFFER_SIZE + 2; id++) {
+            publishCreated(id);
+        }
+
+        // Act & Assert
+        assertThat(feed.missedSince(feed.eventId(1))).isNull();
+        assertThat(feed.missedSince(feed.eventId(2))).hasSize(BUFFER_SIZE);
+    }
+
+    @Test
+    @DisplayName("Deve publicar uma remoção por curso em operações em massa")
+    void shouldPublishOneMessagePerBulkId() {
+        // Act
+        feed.onCoursesBulkChanged(new CoursesBulkChangedEvent(CoursesBulkChangedEvent.Type.DELETED, List.of(7L, 8L)));
+
+        // Assert
+        assertThat(feed.missedSince(feed.eventId(0)))
+                .extracting(CourseChangeMessage::type, CourseChangeMessage::courseId, CourseChangeMessage::course)
+                .containsExactly(
+                        tuple(CourseChangeMessage.Type.DELETED, 7L, null),
+                        tuple(CourseChangeMessage.Type.DELETED, 8L, null));
+    }
+
+    @Test
+    @DisplayName("Deve publicar cada curso de um bloco pequeno de criação com o conteúdo")
+    void shouldPublishCreatedCoursesOfSmallChunk() {
+        // Arrange
+        Course course = new Course();
+        course.setId(9L);
+        course.setTitle("Java");
+
+        // Act
+        feed.onCoursesBulkChanged(CoursesBulkChangedEvent.created(List.of(course)));
+
+        // Assert
+        assertThat(feed.missedSince(feed.eventId(0)))
+                .extracting(CourseChangeMessage::type, CourseChangeMessage::courseId, message -> message.course().title())
+                .containsExactly(tuple(CourseChangeMessage.Type.CREATED, 9L, "Java"));
+    }
+
+    @Test
+    @DisplayName("Deve publicar um único reset quando a operação em massa passa do limite")
+    void shouldPublishSingleResetForLargeBulk() {
+        // Arrange
+        feed.subscribe(null);
+
+        // Act
+        feed.onCoursesBulkChanged(new CoursesBulkChangedEvent(CoursesBulkChangedEvent.Type.UPDATED,
+                List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L)));
+
+        // Assert
+        assertThat(feed.missedSince(feed.eventId(0)))
+                .extracting(CourseChangeMessage::type, CourseChangeMessage::courseId)
+                .containsExactly(tuple(CourseChangeMessage.Type.RESET, null));
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o assinante cuja fila enche")
+    void shouldDisconnectSlowSubscriber() {
+        // Arrange
+        feed.subscribe(null);
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+
+        // Act
+        for (long id = 1; id <= QUEUE_SIZE; id++) {
+            publishCreated(id);
+        }
+
+        // Assert
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    private void publishCreated(Long id) {
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle("Curso " + id);
+        course.setDescription("Descrição");
+        course.setCategory("Backend");
+        course.setDuration(10);
+        course.setVersion(0L);
+        feed.onCourseChanged(CourseChangedEvent.created(course));
+    }
+}
@@ -0,0 +1,273 @@
+package com.br.courses.web;
+
+import com.br.courses.model.Course;
+import com.br.courses.service.CatalogVersion;
+import com.br.courses.service.CourseChangedEvent;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CourseResponseCacheFilter Tests")
+class CourseResponseCacheFilterTest {
+
+    private static final String BODY = "[" + "{\"title\":\"Curso\"},".repeat(100) + "{}]";
+
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private CatalogVersion catalogVersion;
+    private CourseResponseCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion();
+        filter = new CourseResponseCacheFilter(catalogVersion, List.of("/api/courses"), 1_000_000, 100_000);
+    }
+
+    @Test
+    @DisplayName("Deve servir a segunda requisição do cache sem chamar o controller")
+    void shouldServeRepeatedRequestFromCache() throws Exception {
+        // Act
+        MockHttpServletResponse first = get("/api/courses", null);
+        MockHttpServletResponse second = get("/api/courses", null);
+
+        // Assert
+        assertThat(renders).hasValue(1);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo(BODY);
+        assertThat(second.getContentType()).startsWith("application/json");
+        assertThat(second.getHeader("ETag")).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    @DisplayName("Deve responder com os bytes pré-comprimidos quando o cliente aceita gzip")
+    void shouldServePrecompressedGzip() throws Exception {
+        // Arrange
+        get("/api/courses", null);
+
+        // Act
+        MockHttpServletResponse response = get("/api/courses", "gzip, deflate");
+
+        // Assert
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar a resposta em cache quando o catálogo muda")
+    void shouldInvalidateOnCatalogChange() throws Exception {
+        // Arrange
+        get("/api/courses", null);
+
+        // Act
+        catalogVersion.onCourseChanged(CourseChangedEvent.deleted(new Course(), 1L));
+        get("/api/courses", null);
+
+        // Assert
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve separar entradas pela query string")
+    void shouldKeyByQueryString() throws Exception {
+        // Act
+        get("/api/courses", null);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        request.setQueryString("includeDescription=true");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(renderer()));
+
+        // Assert
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 para listas de ETags, ETags fracas e *")
+    void shouldHonourIfNoneMatchListsAndWildcard() throws Exception {
+        // Arrange
+        get("/api/courses", null);
+
+        // Act & Assert
+        assertThat(conditionalGet("\"outro\", \"v1\"").getStatus()).isEqualTo(304);
+        assertThat(conditionalGet("W/\"v1\"").getStatus()).isEqualTo(304);
+        assertThat(conditionalGet("*").getStatus()).isEqualTo(304);
+        assertThat(conditionalGet("\"outro\"").getStatus()).isEqualTo(200);
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve enviar Vary: Accept-Encoding também no miss")
+    void shouldSendVaryOnMiss() throws Exception {
+        // Act
+        MockHttpServletResponse miss = get("/api/courses", null);
+        MockHttpServletResponse hit = get("/api/courses", null);
+
+        // Assert
+        assertThat(miss.getHeaders("Vary")).contains("Accept-Encoding");
+        assertThat(hit.getHeaders("Vary")).contains("Accept-Encoding");
+    }
+
+    @Test
+    @DisplayName("Não deve passar pelo cache a listagem completa com descrição")
+    void shouldBypassFullListingWithDescription() throws Exception {
+        // Act
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+            request.addParameter("includeDescription", "true");
+            request.setQueryString("includeDescription=true");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain(renderer()));
+            assertThat(response.getContentAsString()).isEqualTo(BODY);
+        }
+
+        // Assert
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve entregar sem guardar corpos maiores que o limite por entrada")
+    void shouldStreamOversizedBodiesWithoutCaching() throws Exception {
+        // Arrange
+        filter = new CourseResponseCacheFilter(catalogVersion, List.of("/api/courses"), 1_000_000, 100);
+
+        // Act
+        MockHttpServletResponse first = get("/api/courses", null);
+        MockHttpServletResponse second = get("/api/courses", null);
+
+        // Assert
+        assertThat(first.getContentAsString()).isEqualTo(BODY);
+        assertThat(second.getContentAsString()).isEqualTo(BODY);
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve respeitar os pesos do Accept-Encoding ao escolher gzip")
+    void shouldParseAcceptEncodingWeights() {
+        // Act & Assert
+        assertThat(CourseResponseCacheFilter.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(CourseResponseCacheFilter.acceptsGzip("deflate;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(CourseResponseCacheFilter.acceptsGzip("*")).isTrue();
+        assertThat(CourseResponseCacheFilter.acceptsGzip("gzip; q=0")).isFalse();
+        assertThat(CourseResponseCacheFilter.acceptsGzip("gzip;q=0.0")).isFalse();
+        assertThat(CourseResponseCacheFilter.acceptsGzip("gzip;q=abc")).isFalse();
+        assertThat(CourseResponseCacheFilter.acceptsGzip("*;q=0")).isFalse();
+        assertThat(CourseResponseCacheFilter.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(CourseResponseCacheFilter.acceptsGzip("identity")).isFalse();
+        assertThat(CourseResponseCacheFilter.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve entregar sem guardar respostas escritas depois do início do processamento assíncrono")
+    void shouldStreamAsyncResponsesWithoutCaching() throws Exception {
+        // Arrange
+        AtomicReference<HttpServletResponse> asyncResponse = new AtomicReference<>();
+        HttpServlet asyncRenderer = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+                renders.incrementAndGet();
+                response.setContentType("application/json");
+                request.startAsync();
+                asyncResponse.set(response);
+            }
+        };
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, new MockFilterChain(asyncRenderer));
+        asyncResponse.get().getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        get("/api/courses", null);
+
+        // Assert
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve repassar o WriteListener ao stream real e enviar o que já estava guardado")
+    void shouldDelegateWriteListener() throws Exception {
+        // Arrange
+        ByteArrayOutputStream sent = new ByteArrayOutputStream();
+        AtomicReference<WriteListener> registered = new AtomicReference<>();
+        ServletOutputStream stream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                sent.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                registered.set(listener);
+            }
+        };
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(stream);
+        WriteListener listener = mock(WriteListener.class);
+        BoundedCachingResponseWrapper wrapper = new BoundedCachingResponseWrapper(response, 1000);
+        wrapper.getOutputStream().write(new byte[]{1, 2, 3});
+
+        // Act
+        wrapper.getOutputStream().setWriteListener(listener);
+        wrapper.getOutputStream().write(new byte[]{4});
+
+        // Assert
+        assertThat(registered).hasValue(listener);
+        assertThat(sent.toByteArray()).containsExactly(1, 2, 3, 4);
+        assertThat(wrapper.cachedBody()).isNull();
+    }
+
+    private MockHttpServletResponse conditionalGet(String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        request.addHeader("If-None-Match", ifNoneMatch);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(renderer()));
+        return response;
+    }
+
+    private MockHttpServletResponse get(String uri, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(renderer()));
+        return response;
+    }
+
+    private HttpServlet renderer() {
+        return new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                renders.incrementAndGet();
+                response.setContentType("application/json");
+                response.setHeader("ETag", "\"v1\"");
+                response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+    }
+}